@@ -0,0 +1,13 @@
+package com.mycompany.microservice.auth.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+/**
+ * DTO for bulk user-existence lookups (internal microservice calls).
+ */
+public record UserExistenceRequest(
+        @NotEmpty(message = "Ids are required") @Size(max = 1000, message = "At most 1000 ids per request") Set<Long> ids) {
+}
@@ -0,0 +1,9 @@
+package com.mycompany.microservice.auth.application.dto;
+
+import java.util.Set;
+
+/**
+ * DTO listing which of the requested user ids exist.
+ */
+public record UserExistenceResponse(Set<Long> existingIds) {
+}
@@ -0,0 +1,17 @@
+package com.mycompany.microservice.auth.application.dto;
+
+import com.mycompany.microservice.auth.domain.model.UserProfile;
+
+/**
+ * DTO with the identity data other services need about a user
+ * (e.g. the document used for credit bureau lookups).
+ */
+public record UserProfileResponse(
+        Long id,
+        String document,
+        String name,
+        String email) {
+    public static UserProfileResponse from(UserProfile user) {
+        return new UserProfileResponse(user.id(), user.document(), user.name(), user.email());
+    }
+}
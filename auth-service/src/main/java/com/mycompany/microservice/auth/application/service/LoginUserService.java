@@ -1,10 +1,14 @@
 package com.mycompany.microservice.auth.application.service;
 
 import com.mycompany.microservice.auth.infrastructure.controllers.exception.InvalidCredentialsException;
+import com.mycompany.microservice.auth.infrastructure.controllers.exception.PasswordHashingUnavailableException;
 import com.mycompany.microservice.auth.domain.model.User;
 import com.mycompany.microservice.auth.domain.port.in.LoginUserUseCase;
 import com.mycompany.microservice.auth.domain.port.out.UserRepository;
 import com.mycompany.microservice.auth.infrastructure.security.jwt.JwtTokenProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
@@ -13,6 +17,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  */
 public class LoginUserService implements LoginUserUseCase {
 
+    private static final Logger logger = LoggerFactory.getLogger(LoginUserService.class);
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
@@ -41,9 +47,32 @@ public class LoginUserService implements LoginUserUseCase {
             throw new InvalidCredentialsException("User account is deactivated");
         }
 
+        // The plain password is only at hand now: bring the hash to the configured cost
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            rehash(user, command.password());
+        }
+
         // Generate JWT token with role
         String token = jwtTokenProvider.generateToken(user.getEmail(), user.getId(), user.getRole().name());
 
         return new AuthResult(token, user.getEmail(), user.getName(), user.getRole().name(), user.getId());
     }
+
+    /**
+     * Best effort: when hashing is saturated or the update fails, the login still
+     * succeeds and the hash is upgraded on a later login. The update only applies
+     * if the stored hash is still the one just verified, so a concurrent password
+     * change wins.
+     */
+    private void rehash(User user, String rawPassword) {
+        try {
+            String currentHash = user.getPassword();
+            String newHash = passwordEncoder.encode(rawPassword);
+            if (userRepository.updatePassword(user.getId(), currentHash, newHash)) {
+                user.setPassword(newHash);
+            }
+        } catch (PasswordHashingUnavailableException | DataAccessException e) {
+            logger.debug("Password rehash skipped for user {}: {}", user.getId(), e.getMessage());
+        }
+    }
 }
@@ -3,35 +3,48 @@ package com.mycompany.microservice.auth.application.service;
 import com.mycompany.microservice.auth.infrastructure.controllers.exception.UserAlreadyExistsException;
 import com.mycompany.microservice.auth.domain.model.User;
 import com.mycompany.microservice.auth.domain.port.in.RegisterUserUseCase;
+import com.mycompany.microservice.auth.domain.port.out.AsyncPasswordHasher;
 import com.mycompany.microservice.auth.domain.port.out.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.math.BigDecimal;
+import java.util.concurrent.Future;
 
 /**
  * Application service implementing the RegisterUserUseCase.
  * This is part of the application layer in hexagonal architecture.
+ *
+ * The unique constraints on email and document are what guarantee uniqueness:
+ * registration is a single insert, and a violation comes back as
+ * UserAlreadyExistsException. The lookup before it only spares the insert for
+ * obvious duplicates. It runs while the password is being hashed: the hash is
+ * submitted first, so by the time a duplicate is found it may already be
+ * running, and cancelling it only helps while it still waits in the queue.
  */
 public class RegisterUserService implements RegisterUserUseCase {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final AsyncPasswordHasher passwordEncoder;
 
-    public RegisterUserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public RegisterUserService(UserRepository userRepository, AsyncPasswordHasher passwordEncoder) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
     }
 
     @Override
     public User register(RegisterCommand command) {
-        // Validate that email doesn't already exist
-        if (userRepository.existsByEmail(command.email())) {
-            throw UserAlreadyExistsException.byEmail(command.email());
-        }
-
-        // Validate that document doesn't already exist
-        if (userRepository.existsByDocument(command.document())) {
-            throw UserAlreadyExistsException.byDocument(command.document());
+        // Hash on the BCrypt pool while this thread checks for duplicates
+        Future<String> passwordHash = passwordEncoder.encodeAsync(command.password());
+        try {
+            userRepository.findByEmailOrDocument(command.email(), command.document())
+                    .ifPresent(existing -> {
+                        throw command.email().equals(existing.getEmail())
+                                ? UserAlreadyExistsException.byEmail(command.email())
+                                : UserAlreadyExistsException.byDocument(command.document());
+                    });
+        } catch (RuntimeException e) {
+            // Skips the hash only if no thread has picked it up yet; a running hash completes unused
+            passwordHash.cancel(false);
+            throw e;
         }
 
         // Parse salary
@@ -42,10 +55,10 @@ public class RegisterUserService implements RegisterUserUseCase {
                 command.document(),
                 command.name(),
                 command.email(),
-                passwordEncoder.encode(command.password()),
+                passwordEncoder.await(passwordHash),
                 salary);
 
-        // Persist and return
+        // Persist and return; a concurrent registration of the same email or document fails here
         return userRepository.save(user);
     }
 
@@ -0,0 +1,19 @@
+package com.mycompany.microservice.auth.domain.model;
+
+/**
+ * Immutable snapshot of a user's identity, without the password hash.
+ * Safe to cache and to share between threads.
+ */
+public record UserProfile(
+        Long id,
+        String document,
+        String name,
+        String email,
+        Role role,
+        UserStatus status) {
+
+    public static UserProfile from(User user) {
+        return new UserProfile(user.getId(), user.getDocument(), user.getName(), user.getEmail(),
+                user.getRole(), user.getStatus());
+    }
+}
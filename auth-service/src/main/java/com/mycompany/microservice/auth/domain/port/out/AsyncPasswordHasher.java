@@ -0,0 +1,28 @@
+package com.mycompany.microservice.auth.domain.port.out;
+
+import java.util.concurrent.Future;
+
+/**
+ * Output port for hashing passwords off the caller's thread.
+ * Lets a use case start a hash, do other work meanwhile and collect it later.
+ * Infrastructure layer will provide the implementation (adapter).
+ */
+public interface AsyncPasswordHasher {
+
+    /**
+     * Start hashing the password without waiting for the result.
+     * Cancelling the returned future before the hash starts skips it.
+     *
+     * @param rawPassword the password to hash
+     * @return the pending hash, to collect with {@link #await(Future)}
+     */
+    Future<String> encodeAsync(CharSequence rawPassword);
+
+    /**
+     * Wait for a hash started by {@link #encodeAsync(CharSequence)}.
+     *
+     * @param hash the pending hash
+     * @return the encoded password
+     */
+    String await(Future<String> hash);
+}
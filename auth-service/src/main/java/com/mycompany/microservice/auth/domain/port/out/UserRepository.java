@@ -1,7 +1,10 @@
 package com.mycompany.microservice.auth.domain.port.out;
 
 import com.mycompany.microservice.auth.domain.model.User;
+import com.mycompany.microservice.auth.domain.model.UserProfile;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Output port for user persistence operations.
@@ -15,6 +18,7 @@ public interface UserRepository {
      * 
      * @param user the user domain object to save
      * @return the saved user with generated id
+     * @throws UserAlreadyExistsException if another user has the same email or document
      */
     User save(User user);
 
@@ -42,6 +46,25 @@ public interface UserRepository {
      */
     Optional<User> findById(Long id);
 
+    /**
+     * Find the profile of a user by ID. May be served from a cache: use
+     * {@link #findById(Long)} when the password hash is needed.
+     * 
+     * @param id the user ID
+     * @return Optional containing the profile if found
+     */
+    Optional<UserProfile> findProfileById(Long id);
+
+    /**
+     * Find a user holding the given email or the given document, in a single query.
+     * A user with the email is preferred when two different users match.
+     * 
+     * @param email    the email to search for
+     * @param document the document number to search for
+     * @return Optional containing a matching user if any
+     */
+    Optional<User> findByEmailOrDocument(String email, String document);
+
     /**
      * Check if a user exists with the given email.
      * 
@@ -57,4 +80,22 @@ public interface UserRepository {
      * @return true if exists, false otherwise
      */
     boolean existsByDocument(String document);
+
+    /**
+     * Find which of the given user IDs exist, in a single query.
+     * 
+     * @param ids the user IDs to check
+     * @return the subset of ids that exist
+     */
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Replace a user's password hash, only if it is still the given one.
+     * 
+     * @param id          the user ID
+     * @param currentHash the hash expected to be stored
+     * @param newHash     the hash to store
+     * @return true if updated, false if the user is gone or the hash changed
+     */
+    boolean updatePassword(Long id, String currentHash, String newHash);
 }
@@ -4,6 +4,7 @@ import com.mycompany.microservice.auth.application.service.LoginUserService;
 import com.mycompany.microservice.auth.application.service.RegisterUserService;
 import com.mycompany.microservice.auth.domain.port.in.LoginUserUseCase;
 import com.mycompany.microservice.auth.domain.port.in.RegisterUserUseCase;
+import com.mycompany.microservice.auth.domain.port.out.AsyncPasswordHasher;
 import com.mycompany.microservice.auth.domain.port.out.UserRepository;
 import com.mycompany.microservice.auth.infrastructure.security.jwt.JwtTokenProvider;
 import org.springframework.context.annotation.Bean;
@@ -24,7 +25,7 @@ public class BeanConfiguration {
      */
     @Bean
     public RegisterUserUseCase registerUserUseCase(UserRepository userRepository,
-            PasswordEncoder passwordEncoder) {
+            AsyncPasswordHasher passwordEncoder) {
         return new RegisterUserService(userRepository, passwordEncoder);
     }
 
@@ -3,9 +3,14 @@ package com.mycompany.microservice.auth.infrastructure.entry_points.api_rest;
 import com.mycompany.microservice.auth.application.dto.AuthResponse;
 import com.mycompany.microservice.auth.application.dto.LoginRequest;
 import com.mycompany.microservice.auth.application.dto.RegisterRequest;
+import com.mycompany.microservice.auth.application.dto.UserExistenceRequest;
+import com.mycompany.microservice.auth.application.dto.UserExistenceResponse;
+import com.mycompany.microservice.auth.application.dto.UserProfileResponse;
 import com.mycompany.microservice.auth.domain.model.User;
+import com.mycompany.microservice.auth.domain.model.UserProfile;
 import com.mycompany.microservice.auth.domain.port.in.LoginUserUseCase;
 import com.mycompany.microservice.auth.domain.port.in.RegisterUserUseCase;
+import com.mycompany.microservice.auth.infrastructure.controllers.exception.UserNotFoundException;
 import com.mycompany.microservice.auth.infrastructure.security.jwt.JwtTokenProvider;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -14,7 +19,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * REST Controller for authentication endpoints.
@@ -26,6 +31,8 @@ import java.util.Optional;
 public class AuthController {
 
         private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
+        private static final long USER_LOOKUP_LOG_SAMPLE = 1000;
+        private final AtomicLong userLookups = new AtomicLong();
         private final RegisterUserUseCase registerUserUseCase;
         private final LoginUserUseCase loginUserUseCase;
         private final JwtTokenProvider jwtTokenProvider;
@@ -114,33 +121,42 @@ public class AuthController {
          * GET /api/auth/users/{id}
          */
         @GetMapping("/users/{id}")
-        public ResponseEntity<AuthResponse> getUserById(@PathVariable Long id) {
-                try {
-                        logger.info(">>>  getUserById called with id: {}", id);
-
-                        Optional<User> userOpt = userRepository.findById(id);
-                        logger.info(">>> User found: {}", userOpt.isPresent());
-
-                        User user = userOpt.orElseThrow(() -> {
-                                logger.error(">>> User not found with id: {}", id);
-                                return new RuntimeException("User not found");
-                        });
+        public ResponseEntity<AuthResponse> getUserById(@PathVariable("id") Long id) {
+                // Called for every credit application: keep only a sample in the debug log
+                if (logger.isDebugEnabled() && userLookups.getAndIncrement() % USER_LOOKUP_LOG_SAMPLE == 0) {
+                        logger.debug("getUserById called with id: {} (1 in {} lookups logged)", id, USER_LOOKUP_LOG_SAMPLE);
+                }
 
-                        logger.info(">>> Creating response for user: {}", user.getEmail());
+                UserProfile user = userRepository.findProfileById(id)
+                                .orElseThrow(() -> new RuntimeException("User not found"));
 
-                        AuthResponse response = AuthResponse.success(
-                                        null, // No token needed for internal call
-                                        user.getEmail(),
-                                        user.getName(),
-                                        user.getRole().name(),
-                                        user.getId());
+                AuthResponse response = AuthResponse.success(
+                                null, // No token needed for internal call
+                                user.email(),
+                                user.name(),
+                                user.role().name(),
+                                user.id());
+                return ResponseEntity.ok(response);
+        }
 
-                        logger.info(">>> Returning response");
-                        return ResponseEntity.ok(response);
+        /**
+         * Get the profile of a user, including the document (for internal microservice calls).
+         * GET /api/auth/users/{id}/profile
+         */
+        @GetMapping("/users/{id}/profile")
+        public ResponseEntity<UserProfileResponse> getUserProfile(@PathVariable("id") Long id) {
+                UserProfile user = userRepository.findProfileById(id)
+                                .orElseThrow(() -> UserNotFoundException.byId(id));
+                return ResponseEntity.ok(UserProfileResponse.from(user));
+        }
 
-                } catch (Exception e) {
-                        logger.error(">>> ERROR in getUserById: ", e);
-                        throw e;
-                }
+        /**
+         * Check which of the given user IDs exist (for internal microservice calls).
+         * Answers a whole batch with a single query.
+         * POST /api/auth/users/exists
+         */
+        @PostMapping("/users/exists")
+        public ResponseEntity<UserExistenceResponse> usersExist(@Valid @RequestBody UserExistenceRequest request) {
+                return ResponseEntity.ok(new UserExistenceResponse(userRepository.findExistingIds(request.ids())));
         }
 }
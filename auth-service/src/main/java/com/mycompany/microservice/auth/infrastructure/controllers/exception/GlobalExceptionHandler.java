@@ -1,8 +1,10 @@
 package com.mycompany.microservice.auth.infrastructure.controllers.exception;
 
 import com.mycompany.microservice.auth.infrastructure.controllers.exception.InvalidCredentialsException;
+import com.mycompany.microservice.auth.infrastructure.controllers.exception.PasswordHashingUnavailableException;
 import com.mycompany.microservice.auth.infrastructure.controllers.exception.UserAlreadyExistsException;
 import com.mycompany.microservice.auth.infrastructure.controllers.exception.UserNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -60,6 +62,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    /**
+     * Handle saturated password hashing: 503 with a Retry-After (in whole seconds).
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailable(PasswordHashingUnavailableException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "SERVICE_UNAVAILABLE",
+                ex.getMessage(),
+                LocalDateTime.now());
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(error);
+    }
+
     /**
      * Handle validation errors.
      */
@@ -0,0 +1,31 @@
+package com.mycompany.microservice.auth.infrastructure.controllers.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a password cannot be hashed or verified right now
+ * because the hashing executor is saturated. Clients should retry after
+ * {@link #getRetryAfter()}.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PasswordHashingUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public static PasswordHashingUnavailableException saturated(Duration retryAfter) {
+        return new PasswordHashingUnavailableException("Too many concurrent logins, please retry later", retryAfter);
+    }
+
+    public static PasswordHashingUnavailableException queuedTooLong(Duration waited, Duration retryAfter) {
+        return new PasswordHashingUnavailableException(
+                "Password check waited " + waited.toMillis() + " ms for a free slot, please retry later", retryAfter);
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -1,42 +1,84 @@
 package com.mycompany.microservice.auth.infrastructure.persistence.adapter;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mycompany.microservice.auth.domain.model.User;
+import com.mycompany.microservice.auth.domain.model.UserProfile;
 import com.mycompany.microservice.auth.domain.port.out.UserRepository;
+import com.mycompany.microservice.auth.infrastructure.controllers.exception.UserAlreadyExistsException;
 import com.mycompany.microservice.auth.infrastructure.persistence.entity.UserEntity;
 import com.mycompany.microservice.auth.infrastructure.persistence.mapper.UserMapper;
 import com.mycompany.microservice.auth.infrastructure.persistence.repository.JpaUserRepository;
+import com.mycompany.microservice.observability.ObservabilityAutoConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Adapter that implements the domain UserRepository port.
  * This is the bridge between domain and infrastructure.
  * Following hexagonal architecture: infrastructure implements domain
  * interfaces.
+ *
+ * Profiles (users without their password hash) are cached by id, read-through:
+ * other services look the same users up on every credit application. Every
+ * user loaded or saved here refreshes its cached profile. The TTL bounds how
+ * long a change made by another instance can go unnoticed; missing users are
+ * not cached, so a new registration is visible at once. Batch existence checks
+ * are answered from the same cache, reading only the ids it misses.
  */
 @Component
+@Observed(name = ObservabilityAutoConfiguration.REPOSITORY_ADAPTER_OBSERVATION)
 public class UserRepositoryAdapter implements UserRepository {
 
     private final JpaUserRepository jpaUserRepository;
     private final UserMapper userMapper;
+    private final Cache<Long, UserProfile> profiles;
 
-    public UserRepositoryAdapter(JpaUserRepository jpaUserRepository, UserMapper userMapper) {
+    public UserRepositoryAdapter(JpaUserRepository jpaUserRepository, UserMapper userMapper,
+            MeterRegistry meterRegistry,
+            @Value("${users.profile-cache.max-size:100000}") long maxSize,
+            @Value("${users.profile-cache.ttl:5m}") Duration ttl) {
         this.jpaUserRepository = jpaUserRepository;
         this.userMapper = userMapper;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, "auth.user.profiles");
     }
 
     @Override
     public User save(User user) {
         UserEntity entity = userMapper.toEntity(user);
-        UserEntity savedEntity = jpaUserRepository.save(entity);
-        return userMapper.toDomain(savedEntity);
+        try {
+            // Flush here so a unique violation surfaces from this call
+            UserEntity savedEntity = jpaUserRepository.saveAndFlush(entity);
+            return cached(userMapper.toDomain(savedEntity));
+        } catch (DataIntegrityViolationException e) {
+            throw toUserAlreadyExists(user, e);
+        }
     }
 
     @Override
     public Optional<User> findByEmail(String email) {
+        // Always read: login needs the current password hash
         return jpaUserRepository.findByEmail(email)
-                .map(userMapper::toDomain);
+                .map(userMapper::toDomain)
+                .map(this::cached);
     }
 
     @Override
@@ -48,6 +90,22 @@ public class UserRepositoryAdapter implements UserRepository {
     @Override
     public Optional<User> findById(Long id) {
         return jpaUserRepository.findById(id)
+                .map(userMapper::toDomain)
+                .map(this::cached);
+    }
+
+    @Override
+    public Optional<UserProfile> findProfileById(Long id) {
+        // Caffeine does not store null: a missing user is simply not cached
+        return Optional.ofNullable(profiles.get(id, key -> jpaUserRepository.findById(key)
+                .map(entity -> UserProfile.from(userMapper.toDomain(entity)))
+                .orElse(null)));
+    }
+
+    @Override
+    public Optional<User> findByEmailOrDocument(String email, String document) {
+        return jpaUserRepository.findByEmailOrDocument(email, document).stream()
+                .min(Comparator.comparing((UserEntity entity) -> !email.equals(entity.getEmail())))
                 .map(userMapper::toDomain);
     }
 
@@ -60,4 +118,42 @@ public class UserRepositoryAdapter implements UserRepository {
     public boolean existsByDocument(String document) {
         return jpaUserRepository.existsByDocument(document);
     }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        // Cached profiles answer for themselves; only the misses are read, as whole rows so they are cached too
+        Set<Long> existing = new HashSet<>(profiles.getAllPresent(ids).keySet());
+        List<Long> misses = ids.stream().filter(id -> !existing.contains(id)).distinct().toList();
+        if (!misses.isEmpty()) {
+            for (UserEntity entity : jpaUserRepository.findAllById(misses)) {
+                existing.add(cached(userMapper.toDomain(entity)).getId());
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public boolean updatePassword(Long id, String currentHash, String newHash) {
+        return jpaUserRepository.updatePassword(id, currentHash, newHash) == 1;
+    }
+
+    private User cached(User user) {
+        profiles.put(user.getId(), UserProfile.from(user));
+        return user;
+    }
+
+    /**
+     * Map a violation of the unique constraints on users.email / users.document
+     * (PostgreSQL reports the column as "Key (email)=(...) already exists").
+     */
+    private static RuntimeException toUserAlreadyExists(User user, DataIntegrityViolationException e) {
+        String detail = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        if (detail.contains("(email)")) {
+            return UserAlreadyExistsException.byEmail(user.getEmail());
+        }
+        if (detail.contains("(document)")) {
+            return UserAlreadyExistsException.byDocument(user.getDocument());
+        }
+        return e;
+    }
 }
@@ -2,8 +2,13 @@ package com.mycompany.microservice.auth.infrastructure.persistence.repository;
 
 import com.mycompany.microservice.auth.infrastructure.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,7 +22,17 @@ public interface JpaUserRepository extends JpaRepository<UserEntity, Long> {
 
     Optional<UserEntity> findByDocument(String document);
 
+    List<UserEntity> findByEmailOrDocument(String email, String document);
+
     boolean existsByEmail(String email);
 
     boolean existsByDocument(String document);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserEntity u SET u.password = :newHash, u.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE u.id = :id AND u.password = :currentHash")
+    int updatePassword(@Param("id") Long id,
+            @Param("currentHash") String currentHash,
+            @Param("newHash") String newHash);
 }
@@ -0,0 +1,195 @@
+package com.mycompany.microservice.auth.infrastructure.security.crypto;
+
+import com.mycompany.microservice.auth.domain.port.out.AsyncPasswordHasher;
+import com.mycompany.microservice.auth.infrastructure.controllers.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt password encoder that runs every hash and verification on its own
+ * fixed pool of {@code threads} (one per core by default) instead of on the
+ * request thread, so a login storm can use those cores and no more: health
+ * checks and token issuing keep running.
+ *
+ * <p>Admission is bounded twice. At most {@code queueCapacity} operations wait
+ * for a thread; beyond that, and for any operation that waited longer than
+ * {@code maxQueueWait} by the time a thread picks it up, the caller gets a
+ * {@link PasswordHashingUnavailableException} (503 with Retry-After) at once
+ * rather than a slow answer.
+ *
+ * <p>{@link #upgradeEncoding(String)} reports any hash whose cost differs from
+ * the configured strength, so changing the strength re-hashes passwords as
+ * their users log in (see {@code LoginUserService}).
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AsyncPasswordHasher, DisposableBean {
+
+    // $2a$10$... / $2b$12$... / $2y$... : the cost is the second field
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final long maxQueueWaitNanos;
+    private final Duration retryAfter;
+
+    private final Timer hashQueueWait;
+    private final Timer verifyQueueWait;
+    private final Timer hashTime;
+    private final Timer verifyTime;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedQueueWait;
+
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity,
+            Duration maxQueueWait, Duration retryAfter, MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+        this.retryAfter = retryAfter;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("bcrypt-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.prestartAllCoreThreads();
+
+        Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password operations waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password operations currently hashing")
+                .register(meterRegistry);
+        this.hashQueueWait = queueWaitTimer(meterRegistry, "hash");
+        this.verifyQueueWait = queueWaitTimer(meterRegistry, "verify");
+        this.hashTime = durationTimer(meterRegistry, "hash");
+        this.verifyTime = durationTimer(meterRegistry, "verify");
+        this.rejectedQueueFull = rejectedCounter(meterRegistry, "queue_full");
+        this.rejectedQueueWait = rejectedCounter(meterRegistry, "queue_wait");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+
+    /**
+     * Start hashing without waiting for it, so the caller can do other work
+     * (e.g. a database round trip) meanwhile; collect it with {@link #await(Future)}.
+     * Cancelling the future before a thread picks it up skips the hash.
+     *
+     * @throws PasswordHashingUnavailableException if the queue is full
+     */
+    @Override
+    public Future<String> encodeAsync(CharSequence rawPassword) {
+        return submit(hashQueueWait, hashTime, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return awaitOperation(submit(verifyQueueWait, verifyTime, () -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * True when the hash was made with a different cost than the configured one,
+     * in either direction. Only parses the hash prefix: runs on the caller.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    @Override
+    public String await(Future<String> hash) {
+        return awaitOperation(hash);
+    }
+
+    /**
+     * Wait for an operation started by this encoder, rethrowing its failure as is.
+     */
+    private <T> T awaitOperation(Future<T> operation) {
+        try {
+            return operation.get();
+        } catch (InterruptedException e) {
+            operation.cancel(false);
+            Thread.currentThread().interrupt();
+            throw PasswordHashingUnavailableException.saturated(retryAfter);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private <T> Future<T> submit(Timer queueWait, Timer duration, Supplier<T> work) {
+        long enqueuedAt = System.nanoTime();
+        FutureTask<T> task = new FutureTask<>(() -> {
+            long waited = System.nanoTime() - enqueuedAt;
+            queueWait.record(waited, TimeUnit.NANOSECONDS);
+            // The caller has likely given up (or will time out upstream): don't spend a core on it
+            if (waited > maxQueueWaitNanos) {
+                rejectedQueueWait.increment();
+                throw PasswordHashingUnavailableException.queuedTooLong(Duration.ofNanos(waited), retryAfter);
+            }
+            return duration.record(work);
+        });
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            throw PasswordHashingUnavailableException.saturated(retryAfter);
+        }
+        return task;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static Timer queueWaitTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("auth.password.queue.wait")
+                .description("Time a password operation waited for a hashing thread")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    private static Timer durationTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("auth.password.duration")
+                .description("BCrypt time of a password operation, queue wait excluded")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("auth.password.rejected")
+                .description("Password operations refused with 503 because hashing was saturated")
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
@@ -0,0 +1,280 @@
+package com.mycompany.microservice.auth.infrastructure.security.jwt;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Specialized issuer for our fixed claim set (sub, userId, role, iat, exp).
+ * Writes header and payload straight into pooled buffers and signs with a
+ * pooled Mac. The output is byte-for-byte what the jjwt builder produces
+ * for the same claims (including its JSON escaping rules).
+ *
+ * <p>The pool replaces an earlier ThreadLocal: with virtual threads every
+ * request runs on a new thread, which would get a fresh Mac each time.
+ */
+final class HmacTokenIssuer {
+
+    private static final byte[] BASE64_URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] SUB = ascii("\"sub\":");
+    private static final byte[] USER_ID = ascii("\"userId\":");
+    private static final byte[] ROLE = ascii("\"role\":");
+    private static final byte[] IAT = ascii("\"iat\":");
+    private static final byte[] EXP = ascii("\"exp\":");
+
+    // Issuing never blocks, so a few states per core are enough; extra ones are dropped
+    private static final int POOL_SIZE = 2 * Runtime.getRuntime().availableProcessors();
+
+    private final Mac prototype;
+    private final byte[] encodedHeader;
+    private final long expirationMs;
+    private final BlockingQueue<Buffers> pool = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    HmacTokenIssuer(SecretKey key, long expirationMs) {
+        this.prototype = initMac(key);
+        // jjwt derives the algorithm from the key size (HS256, HS384 or HS512)
+        String header = "{\"alg\":\"HS" + prototype.getMacLength() * 8 + "\"}";
+        this.encodedHeader = Base64.getUrlEncoder().withoutPadding()
+                .encode(header.getBytes(StandardCharsets.US_ASCII));
+        this.expirationMs = expirationMs;
+    }
+
+    /**
+     * Issue a signed token; iat and exp are derived from the given time.
+     */
+    String issue(String subject, Long userId, String role, long nowMillis) {
+        Buffers b = pool.poll();
+        if (b == null) {
+            b = new Buffers(newMac(), prototype.getMacLength());
+        }
+
+        int jsonLength = writePayload(b, subject, userId, role,
+                nowMillis / 1000, (nowMillis + expirationMs) / 1000);
+
+        byte[] out = b.ensureOutput(encodedHeader.length + 2 + base64Length(jsonLength)
+                + base64Length(b.signature.length));
+        System.arraycopy(encodedHeader, 0, out, 0, encodedHeader.length);
+        int pos = encodedHeader.length;
+        out[pos++] = '.';
+        pos = encodeBase64(b.json, jsonLength, out, pos);
+
+        try {
+            b.mac.update(out, 0, pos);
+            b.mac.doFinal(b.signature, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException("Signature buffer too small", e);
+        }
+        out[pos++] = '.';
+        pos = encodeBase64(b.signature, b.signature.length, out, pos);
+
+        String token = new String(out, 0, pos, StandardCharsets.ISO_8859_1);
+        // Only returned on success: after a failure the Mac may hold a partial update
+        pool.offer(b);
+        return token;
+    }
+
+    private int writePayload(Buffers b, String subject, Long userId, String role, long iat, long exp) {
+        // Worst case every char becomes a 6-byte \\uXXXX escape
+        int maxLength = 128 + 6 * (length(subject) + length(role));
+        byte[] json = b.ensureJson(maxLength);
+
+        int pos = 0;
+        json[pos++] = '{';
+        if (subject != null) {
+            pos = put(json, pos, SUB);
+            pos = writeString(json, pos, subject);
+            json[pos++] = ',';
+        }
+        if (userId != null) {
+            pos = put(json, pos, USER_ID);
+            pos = writeLong(json, pos, userId);
+            json[pos++] = ',';
+        }
+        if (role != null) {
+            pos = put(json, pos, ROLE);
+            pos = writeString(json, pos, role);
+            json[pos++] = ',';
+        }
+        pos = put(json, pos, IAT);
+        pos = writeLong(json, pos, iat);
+        json[pos++] = ',';
+        pos = put(json, pos, EXP);
+        pos = writeLong(json, pos, exp);
+        json[pos++] = '}';
+        return pos;
+    }
+
+    /**
+     * JSON string in UTF-8 with Jackson's escaping: quotes, backslashes and
+     * control characters are escaped, surrogates are written as \\uXXXX.
+     */
+    private static int writeString(byte[] buf, int pos, String value) {
+        buf[pos++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    buf[pos++] = '\\';
+                    buf[pos++] = (byte) c;
+                } else if (c >= 0x20) {
+                    buf[pos++] = (byte) c;
+                } else {
+                    pos = writeControl(buf, pos, c);
+                }
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                pos = writeUnicodeEscape(buf, pos, c);
+            } else {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        buf[pos++] = '"';
+        return pos;
+    }
+
+    private static int writeControl(byte[] buf, int pos, char c) {
+        byte shortEscape = switch (c) {
+            case '\b' -> 'b';
+            case '\t' -> 't';
+            case '\n' -> 'n';
+            case '\f' -> 'f';
+            case '\r' -> 'r';
+            default -> 0;
+        };
+        if (shortEscape != 0) {
+            buf[pos++] = '\\';
+            buf[pos++] = shortEscape;
+            return pos;
+        }
+        return writeUnicodeEscape(buf, pos, c);
+    }
+
+    private static int writeUnicodeEscape(byte[] buf, int pos, char c) {
+        buf[pos++] = '\\';
+        buf[pos++] = 'u';
+        buf[pos++] = HEX[(c >> 12) & 0xF];
+        buf[pos++] = HEX[(c >> 8) & 0xF];
+        buf[pos++] = HEX[(c >> 4) & 0xF];
+        buf[pos++] = HEX[c & 0xF];
+        return pos;
+    }
+
+    private static int writeLong(byte[] buf, int pos, long value) {
+        if (value == Long.MIN_VALUE) {
+            return put(buf, pos, ascii(Long.toString(value)));
+        }
+        if (value < 0) {
+            buf[pos++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buf[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + digits;
+    }
+
+    private static int encodeBase64(byte[] src, int length, byte[] dst, int pos) {
+        int i = 0;
+        for (; i + 3 <= length; i += 3) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            dst[pos++] = BASE64_URL[(bits >>> 18) & 0x3F];
+            dst[pos++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            dst[pos++] = BASE64_URL[(bits >>> 6) & 0x3F];
+            dst[pos++] = BASE64_URL[bits & 0x3F];
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xFF) << 16;
+            dst[pos++] = BASE64_URL[(bits >>> 18) & 0x3F];
+            dst[pos++] = BASE64_URL[(bits >>> 12) & 0x3F];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+            dst[pos++] = BASE64_URL[(bits >>> 18) & 0x3F];
+            dst[pos++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            dst[pos++] = BASE64_URL[(bits >>> 6) & 0x3F];
+        }
+        return pos;
+    }
+
+    private static int base64Length(int length) {
+        return (length * 4 + 2) / 3;
+    }
+
+    private static int put(byte[] buf, int pos, byte[] bytes) {
+        System.arraycopy(bytes, 0, buf, pos, bytes.length);
+        return pos + bytes.length;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static Mac initMac(SecretKey key) {
+        try {
+            Mac mac = Mac.getInstance(key.getAlgorithm());
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialize " + key.getAlgorithm(), e);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("Mac provider does not support cloning", e);
+        }
+    }
+
+    /**
+     * Pooled state: Mac plus growable JSON and output buffers.
+     */
+    private static final class Buffers {
+
+        private final Mac mac;
+        private final byte[] signature;
+        private byte[] json = new byte[256];
+        private byte[] output = new byte[512];
+
+        private Buffers(Mac mac, int macLength) {
+            this.mac = mac;
+            this.signature = new byte[macLength];
+        }
+
+        private byte[] ensureJson(int capacity) {
+            if (json.length < capacity) {
+                json = new byte[capacity];
+            }
+            return json;
+        }
+
+        private byte[] ensureOutput(int capacity) {
+            if (output.length < capacity) {
+                output = new byte[capacity];
+            }
+            return output;
+        }
+    }
+}
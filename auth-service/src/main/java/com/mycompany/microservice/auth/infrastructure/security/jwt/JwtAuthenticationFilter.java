@@ -1,10 +1,14 @@
 package com.mycompany.microservice.auth.infrastructure.security.jwt;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -13,6 +17,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * JWT Authentication Filter.
@@ -22,9 +27,11 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final ObservationRegistry observationRegistry;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, ObservationRegistry observationRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.observationRegistry = observationRegistry;
     }
 
     @Override
@@ -34,12 +41,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
+            if (StringUtils.hasText(jwt) && verify(jwt)) {
                 String email = jwtTokenProvider.getEmailFromToken(jwt);
-                Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
+                String role = jwtTokenProvider.getRoleFromToken(jwt);
 
+                // The role gates the internal /api/auth/users/** endpoints (ROLE_SERVICE)
+                List<GrantedAuthority> authorities = StringUtils.hasText(role)
+                        ? List.of(new SimpleGrantedAuthority(role))
+                        : Collections.emptyList();
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(email,
-                        null, Collections.emptyList());
+                        null, authorities);
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -51,6 +62,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // Timer jwt.verify{outcome} and a span under the request's
+    private boolean verify(String jwt) {
+        Observation observation = Observation.start("jwt.verify", observationRegistry);
+        boolean valid = jwtTokenProvider.validateToken(jwt);
+        observation.lowCardinalityKeyValue("outcome", valid ? "valid" : "invalid").stop();
+        return valid;
+    }
+
     private String extractJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -7,7 +7,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.util.Date;
 
 /**
  * JWT Token Provider for generating and validating JWT tokens.
@@ -17,7 +16,7 @@ import java.util.Date;
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
-    private final long expirationMs;
+    private final HmacTokenIssuer tokenIssuer;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
@@ -25,7 +24,7 @@ public class JwtTokenProvider {
         // Ensure the secret is at least 256 bits (32 bytes) for HS256
         byte[] keyBytes = Decoders.BASE64.decode(java.util.Base64.getEncoder().encodeToString(secret.getBytes()));
         this.secretKey = Keys.hmacShaKeyFor(keyBytes.length >= 32 ? keyBytes : padKey(secret));
-        this.expirationMs = expirationMs;
+        this.tokenIssuer = new HmacTokenIssuer(secretKey, expirationMs);
     }
 
     private byte[] padKey(String secret) {
@@ -37,19 +36,10 @@ public class JwtTokenProvider {
 
     /**
      * Generate a JWT token for the given email, user ID, and role.
+     * Uses the allocation-lean issuer; tokens are identical to the jjwt builder output.
      */
     public String generateToken(String email, Long userId, String role) {
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + expirationMs);
-
-        return Jwts.builder()
-                .subject(email)
-                .claim("userId", userId)
-                .claim("role", role)
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(secretKey)
-                .compact();
+        return tokenIssuer.issue(email, userId, role, System.currentTimeMillis());
     }
 
     /**
@@ -0,0 +1,63 @@
+package com.mycompany.microservice.auth.infrastructure.security.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * The lean issuer must produce exactly the tokens the jjwt builder produces.
+ */
+public class HmacTokenIssuerTest {
+
+    private static final long EXPIRATION_MS = 86_400_000L;
+    private static final long NOW = 1_700_000_123_456L;
+
+    @Test
+    public void matchesJjwtForRegularClaims() {
+        assertSameToken(key(32), "afiliado@coopcredit.com", 42L, "ROLE_AFILIADO");
+    }
+
+    @Test
+    public void matchesJjwtForEveryHmacKeySize() {
+        assertSameToken(key(48), "analista@coopcredit.com", 7L, "ROLE_ANALISTA");
+        assertSameToken(key(64), "admin@coopcredit.com", 1L, "ROLE_ADMIN");
+    }
+
+    @Test
+    public void matchesJjwtEscapingAndUtf8() {
+        assertSameToken(key(32), "a\"b\\c\u0001\u001f\t\n\r\b\f/\u007fé€😀<>&'@x.com", 5L, "ROLE_AFILIADO");
+    }
+
+    @Test
+    public void omitsNullClaimsLikeJjwt() {
+        assertSameToken(key(32), "user@coopcredit.com", null, "ROLE_AFILIADO");
+        assertSameToken(key(32), "user@coopcredit.com", 3L, null);
+    }
+
+    private void assertSameToken(SecretKey key, String email, Long userId, String role) {
+        String expected = Jwts.builder()
+                .subject(email)
+                .claim("userId", userId)
+                .claim("role", role)
+                .issuedAt(new Date(NOW))
+                .expiration(new Date(NOW + EXPIRATION_MS))
+                .signWith(key)
+                .compact();
+
+        String actual = new HmacTokenIssuer(key, EXPIRATION_MS).issue(email, userId, role, NOW);
+
+        assertEquals(expected, actual);
+    }
+
+    private SecretKey key(int length) {
+        byte[] bytes = "mySuperSecretKeyForJwtSigningThatIsLongEnoughForEveryHmacVariant!"
+                .substring(0, length).getBytes(StandardCharsets.US_ASCII);
+        return Keys.hmacShaKeyFor(bytes);
+    }
+}
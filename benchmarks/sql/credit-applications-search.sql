@@ -0,0 +1,79 @@
+-- Query-plan benchmark for the credit application search and listing queries.
+--
+-- Run against a scratch database migrated by solicitudes-service (Flyway V1..V3):
+--   psql -h localhost -U postgres -d coopcredit_bench -f benchmarks/sql/credit-applications-search.sql
+--
+-- Loads 10M synthetic applications and prints EXPLAIN (ANALYZE, BUFFERS) for the
+-- analyst queue queries, written the way Hibernate renders them (LIMIT = page size + 1).
+-- Every plan should be an Index Scan (or Index Scan Backward) without a Sort node.
+
+\timing on
+
+TRUNCATE credit_applications RESTART IDENTITY;
+
+-- ~10% PENDIENTE, 5% EN_REVISION, 45% APROBADA, 40% RECHAZADA; 200k users; three years of history
+INSERT INTO credit_applications (user_id, amount, term_months, purpose, status, analyst_notes, created_at, updated_at)
+SELECT 1 + (random() * 199999)::bigint,
+       round((500 + random() * 99500)::numeric, 2),
+       (ARRAY[6, 12, 24, 36, 48, 60])[1 + (random() * 5)::int],
+       'Synthetic application ' || g,
+       CASE WHEN r < 0.10 THEN 'PENDIENTE'
+            WHEN r < 0.15 THEN 'EN_REVISION'
+            WHEN r < 0.60 THEN 'APROBADA'
+            ELSE 'RECHAZADA' END,
+       NULL,
+       ts,
+       ts
+FROM (SELECT g, random() AS r,
+             timestamp '2022-01-01' + (g * interval '9.4608 seconds') AS ts
+      FROM generate_series(1, 10000000) AS g) AS rows;
+
+VACUUM ANALYZE credit_applications;
+
+-- 1. Analyst queue, first page: pending applications, newest first
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM credit_applications
+WHERE status = 'PENDIENTE'
+ORDER BY created_at DESC, id DESC
+LIMIT 21;
+
+-- 2. Analyst queue, deep page: cursor predicate as generated by CreditApplicationSpecifications.after
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM credit_applications
+WHERE status = 'PENDIENTE'
+  AND created_at <= timestamp '2023-06-01 12:00:00'
+  AND (created_at < timestamp '2023-06-01 12:00:00' OR id < 5000000)
+ORDER BY created_at DESC, id DESC
+LIMIT 21;
+
+-- 3. Analyst queue restricted to a created_at range
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM credit_applications
+WHERE status = 'PENDIENTE'
+  AND created_at >= timestamp '2023-01-01 00:00:00'
+  AND created_at <= timestamp '2023-01-31 23:59:59'
+ORDER BY created_at DESC, id DESC
+LIMIT 21;
+
+-- 4. Large pending applications (status + amount range)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM credit_applications
+WHERE status = 'PENDIENTE'
+  AND amount >= 95000
+  AND amount <= 100000
+ORDER BY created_at DESC, id DESC
+LIMIT 21;
+
+-- 5. One user's applications (GET /api/applications/my and search by userId)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM credit_applications
+WHERE user_id = 4815
+ORDER BY created_at DESC, id DESC
+LIMIT 21;
+
+-- 6. Full listing, deep page (GET /api/applications with a cursor)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM credit_applications
+WHERE (created_at, id) < (timestamp '2023-06-01 12:00:00', 5000000)
+ORDER BY created_at DESC, id DESC
+LIMIT 21;
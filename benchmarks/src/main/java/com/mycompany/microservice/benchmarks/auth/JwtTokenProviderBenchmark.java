@@ -0,0 +1,74 @@
+package com.mycompany.microservice.benchmarks.auth;
+
+import com.mycompany.microservice.auth.infrastructure.security.jwt.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * auth-service's JwtTokenProvider: issuing a token at login, and the checks
+ * its JwtAuthenticationFilter runs on every authenticated request (validate,
+ * then read the email and role, each a full parse).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "mySuperSecretKeyForJwtSigningThatIsLongEnough";
+    private static final long EXPIRATION_MS = 86_400_000L;
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, EXPIRATION_MS);
+        token = tokenProvider.generateToken("afiliado@coopcredit.com", 4_815L, "ROLE_AFILIADO");
+        // Same header and claims, broken signature: parsed, then rejected
+        int i = token.lastIndexOf('.') + 5;
+        tamperedToken = token.substring(0, i) + (token.charAt(i) == 'A' ? 'B' : 'A') + token.substring(i + 1);
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenProvider.generateToken("afiliado@coopcredit.com", 4_815L, "ROLE_AFILIADO");
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTampered() {
+        return tokenProvider.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public Long userIdClaim() {
+        return tokenProvider.getUserIdFromToken(token);
+    }
+
+    /** What the filter does per request: validate, then two claim reads. */
+    @Benchmark
+    public void filterChecks(Blackhole blackhole) {
+        blackhole.consume(tokenProvider.validateToken(token));
+        blackhole.consume(tokenProvider.getEmailFromToken(token));
+        blackhole.consume(tokenProvider.getRoleFromToken(token));
+    }
+}
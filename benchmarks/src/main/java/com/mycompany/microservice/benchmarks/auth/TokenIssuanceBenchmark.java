@@ -0,0 +1,70 @@
+package com.mycompany.microservice.benchmarks.auth;
+
+import com.mycompany.microservice.auth.infrastructure.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuance in auth-service: the general-purpose jjwt builder (the
+ * previous generateToken implementation) against the lean HMAC issuer.
+ * Run with -prof gc to compare allocation per token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenIssuanceBenchmark {
+
+    private static final String SECRET = "mySuperSecretKeyForJwtSigningThatIsLongEnough";
+    private static final long EXPIRATION_MS = 86_400_000L;
+
+    private static final String EMAIL = "afiliado@coopcredit.com";
+    private static final Long USER_ID = 4_815L;
+    private static final String ROLE = "ROLE_AFILIADO";
+
+    private SecretKey secretKey;
+    private JwtTokenProvider tokenProvider;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        tokenProvider = new JwtTokenProvider(SECRET, EXPIRATION_MS);
+    }
+
+    @Benchmark
+    public String jjwtBuilder() {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + EXPIRATION_MS);
+
+        return Jwts.builder()
+                .subject(EMAIL)
+                .claim("userId", USER_ID)
+                .claim("role", ROLE)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(secretKey)
+                .compact();
+    }
+
+    @Benchmark
+    public String leanIssuer() {
+        return tokenProvider.generateToken(EMAIL, USER_ID, ROLE);
+    }
+}
@@ -0,0 +1,118 @@
+package com.mycompany.microservice.benchmarks.credit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.microservice.credit.application.dto.ApplicationResponse;
+import com.mycompany.microservice.credit.application.dto.PageResponse;
+import com.mycompany.microservice.credit.domain.model.ApplicationPage;
+import com.mycompany.microservice.credit.domain.model.ApplicationStatus;
+import com.mycompany.microservice.credit.domain.model.CreditApplication;
+import com.mycompany.microservice.credit.domain.model.PageCursor;
+import com.mycompany.microservice.credit.domain.model.RiskAssessment;
+import com.mycompany.microservice.credit.domain.model.RiskLevel;
+import com.mycompany.microservice.credit.infrastructure.persistence.entity.CreditApplicationEntity;
+import com.mycompany.microservice.credit.infrastructure.persistence.mapper.CreditApplicationMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-row work of the application listings in solicitudes-service:
+ * entity to domain and back, domain to ApplicationResponse, and writing a
+ * page of responses with an ObjectMapper configured as Boot configures it.
+ * Times are per page of {@code size} applications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreditApplicationMappingBenchmark {
+
+    /** Default and maximum page sizes of the listing endpoints. */
+    @Param({"20", "100"})
+    public int size;
+
+    private final CreditApplicationMapper mapper = new CreditApplicationMapper();
+    private ObjectMapper objectMapper;
+
+    private List<CreditApplication> applications;
+    private List<CreditApplicationEntity> entities;
+    private ApplicationPage page;
+    private PageResponse<ApplicationResponse> response;
+
+    @Setup
+    public void setUp() {
+        // Boot builds its ObjectMapper from this builder (JavaTimeModule, ISO dates)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        applications = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            // Half of them already evaluated, as in a busy queue
+            RiskAssessment risk = i % 2 == 0
+                    ? new RiskAssessment(640 + i, RiskLevel.MEDIO, "Historial crediticio moderado.", now)
+                    : null;
+            applications.add(new CreditApplication((long) i, 4_815L, new BigDecimal("2500000.00"), 36,
+                    "Compra de vehículo", ApplicationStatus.PENDIENTE, null,
+                    now.minusMinutes(i), now.minusMinutes(i), 0L, risk));
+        }
+        entities = applications.stream().map(mapper::toEntity).toList();
+        page = new ApplicationPage(applications, new PageCursor(now.minusMinutes(size), (long) size));
+        response = PageResponse.from(page, ApplicationResponse::from);
+    }
+
+    @Benchmark
+    public List<CreditApplicationEntity> toEntity() {
+        List<CreditApplicationEntity> result = new ArrayList<>(size);
+        for (CreditApplication application : applications) {
+            result.add(mapper.toEntity(application));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<CreditApplication> toDomain() {
+        List<CreditApplication> result = new ArrayList<>(size);
+        for (CreditApplicationEntity entity : entities) {
+            result.add(mapper.toDomain(entity));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public PageResponse<ApplicationResponse> responseFrom() {
+        return PageResponse.from(page, ApplicationResponse::from);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    /** Everything after the query: rows to domain, to DTOs, to JSON. */
+    @Benchmark
+    public byte[] listing() throws Exception {
+        List<CreditApplication> rows = new ArrayList<>(size);
+        for (CreditApplicationEntity entity : entities) {
+            rows.add(mapper.toDomain(entity));
+        }
+        return objectMapper.writeValueAsBytes(
+                PageResponse.from(new ApplicationPage(rows, page.nextCursor()), ApplicationResponse::from));
+    }
+}
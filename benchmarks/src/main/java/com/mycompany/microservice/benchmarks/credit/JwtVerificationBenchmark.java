@@ -0,0 +1,63 @@
+package com.mycompany.microservice.benchmarks.credit;
+
+import com.mycompany.microservice.auth.infrastructure.security.jwt.JwtTokenProvider;
+import com.mycompany.microservice.credit.infrastructure.security.jwt.JwtPrincipal;
+import com.mycompany.microservice.credit.infrastructure.security.jwt.VerifiedTokenCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * solicitudes-service's JwtTokenProvider.verify, which parses a token once and
+ * then serves it from the VerifiedTokenCache. {@code hit} is a returning
+ * client; {@code miss} cycles through more tokens than the cache holds, so
+ * every call parses, checks the signature and inserts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "mySuperSecretKeyForJwtSigningThatIsLongEnough";
+    private static final int TOKENS = 4_096;
+
+    @Param({"hit", "miss"})
+    public String cache;
+
+    private com.mycompany.microservice.credit.infrastructure.security.jwt.JwtTokenProvider verifier;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        // Tokens as auth-service issues them
+        JwtTokenProvider issuer = new JwtTokenProvider(SECRET, 86_400_000L);
+        tokens = new String[cache.equals("hit") ? 1 : TOKENS];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = issuer.generateToken("afiliado" + i + "@coopcredit.com", (long) i, "ROLE_AFILIADO");
+        }
+        verifier = new com.mycompany.microservice.credit.infrastructure.security.jwt.JwtTokenProvider(
+                SECRET, new VerifiedTokenCache(cache.equals("hit") ? 10_000 : 1));
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> verify() {
+        String token = tokens[next];
+        next = (next + 1) % tokens.length;
+        return verifier.verify(token);
+    }
+}
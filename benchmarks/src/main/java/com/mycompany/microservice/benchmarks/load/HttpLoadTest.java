@@ -0,0 +1,212 @@
+package com.mycompany.microservice.benchmarks.load;
+
+import com.mycompany.microservice.auth.infrastructure.security.jwt.JwtTokenProvider;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load generator, used to compare a service with and without
+ * virtual threads: for each concurrency level it keeps that many requests in
+ * flight for the given duration and reports throughput, latency percentiles
+ * and status codes. Not a JMH benchmark (the system under test is another
+ * process), so it is run with its own main class:
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.mycompany.microservice.benchmarks.load.HttpLoadTest \
+ *     --url http://localhost:8082/api/applications \
+ *     --body '{"amount":200000,"termMonths":12,"purpose":"load"}' \
+ *     --jwt-secret "$JWT_SECRET" --users 1-2000 \
+ *     --concurrency 50,200,800 --duration 30s --warmup 10s
+ * </pre>
+ *
+ * {@code {user}} in the URL or body is replaced by a user id cycling through
+ * {@code --users}; with {@code --jwt-secret} each request also carries a
+ * token for that user, with role {@code --jwt-role} (ROLE_AFILIADO by default;
+ * ROLE_SERVICE for auth-service's internal endpoints).
+ */
+public final class HttpLoadTest {
+
+    private final HttpClient client;
+    private final Options options;
+    private final JwtTokenProvider tokens;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private HttpLoadTest(Options options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.tokens = options.jwtSecret == null ? null : new JwtTokenProvider(options.jwtSecret, 3_600_000L);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Options options = Options.parse(args);
+        HttpLoadTest test = new HttpLoadTest(options);
+        System.out.printf("%s %s, %s per level after %s warm-up%n", options.method, options.url,
+                options.duration, options.warmup);
+        System.out.printf("%11s %9s %9s %9s %9s %9s %9s  %s%n",
+                "concurrency", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "status");
+        for (int concurrency : options.concurrency) {
+            test.run(concurrency, options.warmup);
+            Result result = test.run(concurrency, options.duration);
+            System.out.printf("%11d %9d %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n", concurrency, result.count(),
+                    result.count() / (options.duration.toNanos() / 1e9),
+                    result.percentile(0.50), result.percentile(0.95), result.percentile(0.99),
+                    result.percentile(1.0), result);
+        }
+    }
+
+    /**
+     * Keeps {@code concurrency} requests in flight until {@code duration} has
+     * elapsed, then waits for the stragglers. Only requests started within the
+     * window are counted.
+     */
+    private Result run(int concurrency, Duration duration) throws InterruptedException {
+        Result result = new Result();
+        Semaphore slots = new Semaphore(concurrency);
+        long end = System.nanoTime() + duration.toNanos();
+        while (System.nanoTime() - end < 0) {
+            slots.acquire();
+            long startedAt = System.nanoTime();
+            client.sendAsync(nextRequest(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        result.record(System.nanoTime() - startedAt,
+                                error != null ? error.getClass().getSimpleName() : String.valueOf(response.statusCode()));
+                        slots.release();
+                    });
+        }
+        slots.acquire(concurrency);
+        return result;
+    }
+
+    private HttpRequest nextRequest() {
+        long user = options.firstUser + Math.floorMod(sequence.getAndIncrement(), options.userCount);
+        String userId = Long.toString(user);
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(options.url.replace("{user}", userId)))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (tokens != null) {
+            request.header("Authorization", "Bearer "
+                    + tokens.generateToken("load-" + userId + "@coopcredit.com", user, options.jwtRole));
+        }
+        return options.body == null
+                ? request.method(options.method, HttpRequest.BodyPublishers.noBody()).build()
+                : request.method(options.method, HttpRequest.BodyPublishers.ofString(options.body.replace("{user}", userId))).build();
+    }
+
+    private static final class Result {
+
+        private final List<long[]> chunks = new ArrayList<>();
+        private final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+        private long[] current = new long[4096];
+        private int used;
+        private long[] sorted;
+
+        synchronized void record(long latencyNanos, String status) {
+            if (used == current.length) {
+                chunks.add(current);
+                current = new long[current.length];
+                used = 0;
+            }
+            current[used++] = latencyNanos;
+            statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+
+        synchronized int count() {
+            return chunks.size() * current.length + used;
+        }
+
+        synchronized double percentile(double p) {
+            if (sorted == null) {
+                sorted = new long[count()];
+                int pos = 0;
+                for (long[] chunk : chunks) {
+                    System.arraycopy(chunk, 0, sorted, pos, chunk.length);
+                    pos += chunk.length;
+                }
+                System.arraycopy(current, 0, sorted, pos, used);
+                Arrays.sort(sorted);
+            }
+            if (sorted.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return new TreeMap<>(statuses).toString();
+        }
+    }
+
+    private static final class Options {
+
+        private String url;
+        private String method;
+        private String body;
+        private String jwtSecret;
+        private String jwtRole = "ROLE_AFILIADO";
+        private long firstUser = 1;
+        private long userCount = 1;
+        private int[] concurrency = {50, 200, 800};
+        private Duration duration = Duration.ofSeconds(30);
+        private Duration warmup = Duration.ofSeconds(10);
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            if (args.length % 2 != 0) {
+                throw new IllegalArgumentException("Options come in pairs: --name value");
+            }
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--url" -> options.url = value;
+                    case "--method" -> options.method = value.toUpperCase();
+                    case "--body" -> options.body = value;
+                    case "--jwt-secret" -> options.jwtSecret = value;
+                    case "--jwt-role" -> options.jwtRole = value;
+                    case "--users" -> {
+                        String[] range = value.split("-");
+                        options.firstUser = Long.parseLong(range[0]);
+                        options.userCount = range.length > 1 ? Long.parseLong(range[1]) - options.firstUser + 1 : 1;
+                    }
+                    case "--concurrency" -> options.concurrency = Arrays.stream(value.split(","))
+                            .mapToInt(Integer::parseInt).toArray();
+                    case "--duration" -> options.duration = parseDuration(value);
+                    case "--warmup" -> options.warmup = parseDuration(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            if (options.url == null) {
+                throw new IllegalArgumentException("--url is required");
+            }
+            if (options.userCount < 1) {
+                throw new IllegalArgumentException("--users must be a range like 1-2000");
+            }
+            if (options.method == null) {
+                options.method = options.body == null ? "GET" : "POST";
+            }
+            return options;
+        }
+
+        private static Duration parseDuration(String value) {
+            return value.endsWith("ms") ? Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)))
+                    : Duration.ofSeconds(Long.parseLong(value.replaceAll("s$", "")));
+        }
+    }
+}
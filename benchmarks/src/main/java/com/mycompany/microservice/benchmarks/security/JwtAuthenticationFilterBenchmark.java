@@ -0,0 +1,89 @@
+package com.mycompany.microservice.benchmarks.security;
+
+import com.mycompany.microservice.auth.infrastructure.security.jwt.JwtTokenProvider;
+import com.mycompany.microservice.credit.infrastructure.security.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Both services' JwtAuthenticationFilter end to end, as the servlet container
+ * calls them: header extraction, verification, the jwt.verify observation and
+ * the SecurityContext. {@code observation=metrics} records jwt.verify into a
+ * meter registry, as the services do; {@code none} shows the filter alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "mySuperSecretKeyForJwtSigningThatIsLongEnough";
+
+    @Param({"none", "metrics"})
+    public String observation;
+
+    private com.mycompany.microservice.auth.infrastructure.security.jwt.JwtAuthenticationFilter authFilter;
+    private com.mycompany.microservice.credit.infrastructure.security.jwt.JwtAuthenticationFilter creditFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+        if (observation.equals("metrics")) {
+            observationRegistry = ObservationRegistry.create();
+            observationRegistry.observationConfig()
+                    .observationHandler(new DefaultMeterObservationHandler(new SimpleMeterRegistry()));
+        }
+
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 86_400_000L);
+        authFilter = new com.mycompany.microservice.auth.infrastructure.security.jwt.JwtAuthenticationFilter(
+                tokenProvider, observationRegistry);
+        creditFilter = new com.mycompany.microservice.credit.infrastructure.security.jwt.JwtAuthenticationFilter(
+                new com.mycompany.microservice.credit.infrastructure.security.jwt.JwtTokenProvider(
+                        SECRET, new VerifiedTokenCache(10_000)),
+                observationRegistry);
+
+        request = new MockHttpServletRequest("GET", "/api/applications/my");
+        request.addHeader("Authorization",
+                "Bearer " + tokenProvider.generateToken("afiliado@coopcredit.com", 4_815L, "ROLE_AFILIADO"));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void authService(Blackhole blackhole) throws Exception {
+        authFilter.doFilter(request, response, chain(blackhole));
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void solicitudesService(Blackhole blackhole) throws Exception {
+        creditFilter.doFilter(request, response, chain(blackhole));
+        SecurityContextHolder.clearContext();
+    }
+
+    private static FilterChain chain(Blackhole blackhole) {
+        return (request, response) -> blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+    }
+}
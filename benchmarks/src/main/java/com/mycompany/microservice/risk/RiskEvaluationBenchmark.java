@@ -0,0 +1,111 @@
+package com.mycompany.microservice.risk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mycompany.microservice.risk.bureau.BureauIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * risk-central-mock-service scoring through RiskEvaluationController: the
+ * scoring alone, one JSON evaluation as Spring MVC runs it (read body, score,
+ * write body), a batch of {@value #BATCH} and the same documents as NDJSON.
+ * Hash-derived scores only (no bureau index configured).
+ *
+ * <p>Lives in the service's package: the request and response records are
+ * package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RiskEvaluationBenchmark {
+
+    static final int BATCH = 100;
+    private static final int DOCUMENTS = 1_024;
+
+    private RiskScoringService scoringService;
+    private RiskEvaluationController controller;
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+
+    private RiskEvaluationRequest[] requests;
+    private byte[][] jsonRequests;
+    private List<RiskEvaluationRequest> batch;
+    private byte[] ndjson;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        scoringService = new RiskScoringService(new DefaultListableBeanFactory().getBeanProvider(BureauIndex.class));
+        controller = new RiskEvaluationController(scoringService, objectMapper);
+        requestReader = objectMapper.readerFor(RiskEvaluationRequest.class);
+        responseWriter = objectMapper.writerFor(RiskEvaluationResponse.class);
+
+        requests = new RiskEvaluationRequest[DOCUMENTS];
+        jsonRequests = new byte[DOCUMENTS][];
+        for (int i = 0; i < DOCUMENTS; i++) {
+            requests[i] = new RiskEvaluationRequest(String.valueOf(1_000_000_000L + i * 7_919L),
+                    new BigDecimal("5000000"), 36);
+            jsonRequests[i] = objectMapper.writeValueAsBytes(requests[i]);
+        }
+        batch = new ArrayList<>(List.of(requests).subList(0, BATCH));
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < BATCH; i++) {
+            lines.append(new String(jsonRequests[i], StandardCharsets.UTF_8)).append('\n');
+        }
+        ndjson = lines.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public RiskEvaluationResponse score() {
+        RiskEvaluationRequest request = requests[next];
+        next = (next + 1) % DOCUMENTS;
+        return scoringService.evaluate(request);
+    }
+
+    @Benchmark
+    public byte[] evaluateRisk() throws Exception {
+        byte[] body = jsonRequests[next];
+        next = (next + 1) % DOCUMENTS;
+        RiskEvaluationRequest request = requestReader.readValue(body);
+        return responseWriter.writeValueAsBytes(controller.evaluateRisk(request).getBody());
+    }
+
+    @Benchmark
+    public List<RiskEvaluationResponse> evaluateBatch() {
+        return controller.evaluateBatch(batch).getBody();
+    }
+
+    /** Includes a fresh mock request and response per call: a servlet input stream is read once. */
+    @Benchmark
+    public byte[] evaluateStream() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/risk-evaluation/stream");
+        request.setContent(ndjson);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.evaluateStream(request, response);
+        return response.getContentAsByteArray();
+    }
+}
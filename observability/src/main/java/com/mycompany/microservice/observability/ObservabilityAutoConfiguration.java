@@ -0,0 +1,56 @@
+package com.mycompany.microservice.observability;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Tracing and observation setup shared by the services.
+ *
+ * <p>Span exporters: Boot hands finished spans to every {@code SpanExporter}
+ * bean, so the local file sink below (on unless {@code tracing.file.path} is
+ * empty) runs alongside the OTLP exporter Boot adds when
+ * {@code management.otlp.tracing.endpoint} is set.
+ *
+ * <p>{@code @Observed} is made effective on Spring beans when AspectJ is on the
+ * classpath: each call is one observation, so it yields both a timer per class
+ * and method, tagged with the error thrown, and a span in the current trace.
+ */
+@AutoConfiguration(after = ObservationAutoConfiguration.class)
+public class ObservabilityAutoConfiguration {
+
+    /** Observation (timer and span) name shared by every repository adapter method. */
+    public static final String REPOSITORY_ADAPTER_OBSERVATION = "repository.adapter";
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression("!'${tracing.file.path:}'.isEmpty()")
+    public FileSpanExporter fileSpanExporter(@Value("${tracing.file.path}") Path path,
+            @Value("${tracing.file.max-size:50MB}") DataSize maxSize) throws IOException {
+        return new FileSpanExporter(path, maxSize.toBytes());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.aspectj.weaver.Advice")
+    @ConditionalOnBean(ObservationRegistry.class)
+    static class ObservedAspectConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+            return new ObservedAspect(observationRegistry);
+        }
+    }
+}
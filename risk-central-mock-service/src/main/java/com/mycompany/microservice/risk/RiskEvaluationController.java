@@ -1,54 +1,118 @@
 package com.mycompany.microservice.risk;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 public class RiskEvaluationController {
 
+    static final int MAX_BATCH_SIZE = 10_000;
+
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final RiskScoringService scoringService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader requestReader;
+
+    public RiskEvaluationController(RiskScoringService scoringService, ObjectMapper objectMapper) {
+        this.scoringService = scoringService;
+        this.objectMapper = objectMapper;
+        this.requestReader = objectMapper.readerFor(RiskEvaluationRequest.class);
+    }
+
     @PostMapping("/risk-evaluation")
     public ResponseEntity<RiskEvaluationResponse> evaluateRisk(@RequestBody RiskEvaluationRequest request) {
-        String documento = request.documento();
-        
-        // 1. Convert document to seed (hash mod 1000)
-        long seed = Math.abs(documento.hashCode()) % 1000;
-        
-        // 2. Generate score (300-950) based on seed
-        // We map 0-999 to 300-950
-        // Range size: 950 - 300 = 650
-        // Score = 300 + (seed * 650 / 1000)
-        int score = 300 + (int) (seed * 650 / 1000);
-        
-        // 3. Classify
-        String nivelRiesgo;
-        String detalle;
-        
-        if (score <= 500) {
-            nivelRiesgo = "ALTO";
-            detalle = "Historial crediticio deficiente o insuficiente.";
-        } else if (score <= 700) {
-            nivelRiesgo = "MEDIO";
-            detalle = "Historial crediticio moderado.";
-        } else {
-            nivelRiesgo = "BAJO";
-            detalle = "Excelente historial crediticio.";
+        return ResponseEntity.ok(scoringService.evaluate(request));
+    }
+
+    /**
+     * Score up to MAX_BATCH_SIZE documents in one call.
+     * Results come back in request order.
+     */
+    @PostMapping("/risk-evaluation/batch")
+    public ResponseEntity<List<RiskEvaluationResponse>> evaluateBatch(@RequestBody List<RiskEvaluationRequest> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BATCH_SIZE + " documents per batch");
+        }
+        List<RiskEvaluationResponse> responses = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            RiskEvaluationRequest request = requests.get(i);
+            if (request == null || request.documento() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Item " + i + ": documento is required");
+            }
+            responses.add(scoringService.evaluate(request));
+        }
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * NDJSON in, NDJSON out: one result line per input line, in order, with no
+     * size limit. Results are flushed whenever the buffered input runs out, so
+     * a client sending records slowly gets each answer as soon as it is scored.
+     * A line that cannot be scored produces {"line": n, "error": "..."} instead.
+     */
+    @PostMapping(value = "/risk-evaluation/stream", consumes = APPLICATION_NDJSON, produces = APPLICATION_NDJSON)
+    public void evaluateStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        try (JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(response.getOutputStream())
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.setRootValueSeparator(null);
+
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                generator.writeObject(score(line, lineNumber));
+                generator.writeRaw('\n');
+                if (!reader.ready()) {
+                    generator.flush();
+                }
+            }
+        }
+    }
+
+    private Object score(String line, long lineNumber) {
+        try {
+            RiskEvaluationRequest request = requestReader.readValue(line);
+            if (request == null || request.documento() == null) {
+                return new RiskEvaluationError(lineNumber, "documento is required");
+            }
+            return scoringService.evaluate(request);
+        } catch (JsonProcessingException e) {
+            return new RiskEvaluationError(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
         }
-        
-        RiskEvaluationResponse response = new RiskEvaluationResponse(
-                documento,
-                score,
-                nivelRiesgo,
-                detalle
-        );
-        
-        return ResponseEntity.ok(response);
     }
 }
 
 record RiskEvaluationRequest(String documento, BigDecimal monto, Integer plazo) {}
 
 record RiskEvaluationResponse(String documento, Integer score, String nivelRiesgo, String detalle) {}
+
+record RiskEvaluationError(long line, String error) {}
@@ -0,0 +1,68 @@
+package com.mycompany.microservice.risk;
+
+import com.mycompany.microservice.risk.bureau.BureauIndex;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+/**
+ * Deterministic scoring shared by the single, batch and streaming endpoints:
+ * the same document always gets the same score.
+ * When a bureau index is configured, documents found in it are scored from
+ * their record; the others fall back to the hash-derived score.
+ */
+@Service
+public class RiskScoringService {
+
+    private final BureauIndex bureauIndex;
+
+    public RiskScoringService(ObjectProvider<BureauIndex> bureauIndex) {
+        this.bureauIndex = bureauIndex.getIfAvailable();
+    }
+
+    public RiskEvaluationResponse evaluate(RiskEvaluationRequest request) {
+        String documento = request.documento();
+
+        long record = bureauIndex != null ? bureauIndex.find(documento) : BureauIndex.NOT_FOUND;
+        int score;
+        if (record != BureauIndex.NOT_FOUND) {
+            score = bureauIndex.score(record);
+        } else {
+            // 1. Convert document to seed (hash mod 1000)
+            long seed = Math.abs(documento.hashCode()) % 1000;
+
+            // 2. Generate score (300-950) based on seed
+            // We map 0-999 to 300-950
+            // Range size: 950 - 300 = 650
+            // Score = 300 + (seed * 650 / 1000)
+            score = 300 + (int) (seed * 650 / 1000);
+        }
+        
+        // 3. Classify
+        String nivelRiesgo;
+        String detalle;
+        
+        if (score <= 500) {
+            nivelRiesgo = "ALTO";
+            detalle = "Historial crediticio deficiente o insuficiente.";
+        } else if (score <= 700) {
+            nivelRiesgo = "MEDIO";
+            detalle = "Historial crediticio moderado.";
+        } else {
+            nivelRiesgo = "BAJO";
+            detalle = "Excelente historial crediticio.";
+        }
+
+        if (record != BureauIndex.NOT_FOUND) {
+            detalle += " Meses de historial: " + bureauIndex.historyMonths(record)
+                    + ", pagos en mora: " + bureauIndex.missedPayments(record)
+                    + ", créditos activos: " + bureauIndex.openAccounts(record) + ".";
+        }
+        
+        return new RiskEvaluationResponse(
+                documento,
+                score,
+                nivelRiesgo,
+                detalle
+        );
+    }
+}
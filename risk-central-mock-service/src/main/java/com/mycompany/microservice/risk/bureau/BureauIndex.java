@@ -0,0 +1,161 @@
+package com.mycompany.microservice.risk.bureau;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.mycompany.microservice.risk.bureau.BureauIndexFormat.*;
+
+/**
+ * Read-only view of a bureau index file written by {@link BureauIndexWriter}.
+ * The file is memory-mapped, not loaded: opening it only validates the header,
+ * and records are paged in by the OS as lookups touch them.
+ *
+ * <p>Lookups allocate nothing. {@link #find} returns an opaque record handle
+ * (or {@link #NOT_FOUND}) that the accessor methods read from. Only absolute
+ * reads are used, so one instance is safe to share across threads.
+ */
+public final class BureauIndex implements Closeable {
+
+    public static final long NOT_FOUND = -1;
+
+    private final FileChannel channel;
+    private final ByteBuffer[] segments;
+    private final int segmentShift;
+    private final long slotMask;
+    private final long recordCount;
+
+    private BureauIndex(FileChannel channel, ByteBuffer[] segments, int segmentShift, long slotCount,
+            long recordCount) {
+        this.channel = channel;
+        this.segments = segments;
+        this.segmentShift = segmentShift;
+        this.slotMask = slotCount - 1;
+        this.recordCount = recordCount;
+    }
+
+    public static BureauIndex open(Path path) throws IOException {
+        return open(path, SEGMENT_SHIFT);
+    }
+
+    /**
+     * Maps the file in segments of {@code 1 << segmentShift} bytes; small
+     * segments let tests cross segment boundaries with a small file.
+     */
+    static BureauIndex open(Path path, int segmentShift) throws IOException {
+        checkSegmentShift(segmentShift);
+        long segmentSize = 1L << segmentShift;
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IOException(path + " is not a bureau index (too short)");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getLong(0) != MAGIC) {
+                throw new IOException(path + " is not a bureau index (bad magic; incomplete write?)");
+            }
+            if (header.getInt(8) != VERSION || header.getInt(12) != SLOT_SIZE) {
+                throw new IOException(path + " has unsupported version " + header.getInt(8));
+            }
+            long slotCount = header.getLong(16);
+            long recordCount = header.getLong(24);
+            if (Long.bitCount(slotCount) != 1 || size != fileSize(slotCount)) {
+                throw new IOException(path + " is truncated or corrupt: " + size + " bytes for " + slotCount + " slots");
+            }
+
+            int segmentCount = (int) ((size + segmentSize - 1) >>> segmentShift);
+            ByteBuffer[] segments = new ByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long offset = (long) i << segmentShift;
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                        Math.min(segmentSize, size - offset));
+                segments[i] = segment.order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new BureauIndex(channel, segments, segmentShift, slotCount, recordCount);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Handle of the record for the given document, or {@link #NOT_FOUND}.
+     */
+    public long find(CharSequence document) {
+        long hash = hash(document);
+        if (hash == 0) {
+            return NOT_FOUND;
+        }
+        for (long slot = hash & slotMask; ; slot = (slot + 1) & slotMask) {
+            long offset = HEADER_SIZE + slot * SLOT_SIZE;
+            ByteBuffer segment = segment(offset);
+            int position = position(offset);
+            long stored = segment.getLong(position + HASH_OFFSET);
+            if (stored == 0) {
+                return NOT_FOUND;
+            }
+            if (stored == hash && documentMatches(segment, position, document)) {
+                return offset;
+            }
+        }
+    }
+
+    public int score(long record) {
+        return segment(record).getShort(position(record) + SCORE_OFFSET);
+    }
+
+    public int missedPayments(long record) {
+        return Byte.toUnsignedInt(segment(record).get(position(record) + MISSED_PAYMENTS_OFFSET));
+    }
+
+    public int openAccounts(long record) {
+        return Byte.toUnsignedInt(segment(record).get(position(record) + OPEN_ACCOUNTS_OFFSET));
+    }
+
+    public int historyMonths(long record) {
+        return Short.toUnsignedInt(segment(record).getShort(position(record) + HISTORY_MONTHS_OFFSET));
+    }
+
+    public long recordCount() {
+        return recordCount;
+    }
+
+    public long slotCount() {
+        return slotMask + 1;
+    }
+
+    /**
+     * Closes the file. The mapping itself is released when the buffers are
+     * garbage collected, so callers must stop using the index first.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private ByteBuffer segment(long record) {
+        return segments[(int) (record >>> segmentShift)];
+    }
+
+    private int position(long record) {
+        return (int) (record & ((1L << segmentShift) - 1));
+    }
+
+    private static boolean documentMatches(ByteBuffer segment, int position, CharSequence document) {
+        int base = position + DOCUMENT_OFFSET;
+        int length = document.length();
+        for (int i = 0; i < length; i++) {
+            if (segment.get(base + i) != (byte) document.charAt(i)) {
+                return false;
+            }
+        }
+        return length == MAX_DOCUMENT_LENGTH || segment.get(base + length) == 0;
+    }
+}
@@ -0,0 +1,31 @@
+package com.mycompany.microservice.risk.bureau;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Bureau dataset mode: enabled by pointing risk.bureau.index-path at a file
+ * built with {@link BureauIndexWriter}.
+ */
+@Configuration
+@ConditionalOnProperty("risk.bureau.index-path")
+public class BureauIndexConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(BureauIndexConfig.class);
+
+    @Bean(destroyMethod = "close")
+    public BureauIndex bureauIndex(@Value("${risk.bureau.index-path}") Path path) throws IOException {
+        long start = System.nanoTime();
+        BureauIndex index = BureauIndex.open(path);
+        logger.info("Mapped bureau index {}: {} records in {} slots ({} ms)", path, index.recordCount(),
+                index.slotCount(), (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+}
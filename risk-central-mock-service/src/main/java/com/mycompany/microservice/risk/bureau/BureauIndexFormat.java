@@ -0,0 +1,94 @@
+package com.mycompany.microservice.risk.bureau;
+
+/**
+ * On-disk layout of a bureau index file, shared by {@link BureauIndexWriter}
+ * and {@link BureauIndex}.
+ *
+ * <pre>
+ * header (64 bytes, little-endian)
+ *   0  magic          "RISKIDX1"
+ *   8  version        int
+ *   12 slot size      int
+ *   16 slot count     long (power of two)
+ *   24 record count   long
+ * slots (SLOT_SIZE bytes each, open addressing with linear probing)
+ *   0  hash           long, 0 = empty slot
+ *   8  document       16 ASCII bytes, zero-padded
+ *   24 score          short
+ *   26 missed pmts    unsigned byte
+ *   27 open accounts  unsigned byte
+ *   28 history months unsigned short
+ *   30 reserved       short
+ * </pre>
+ *
+ * Slots are a power of two in size and so are the mapped segments, so a slot
+ * never straddles two segments. Segments are 1 GiB; the smallest allowed (the
+ * header's size) only serves tests.
+ */
+final class BureauIndexFormat {
+
+    static final long MAGIC = 0x315844494B534952L; // "RISKIDX1" read as a little-endian long
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 64;
+    static final int SLOT_SIZE = 32;
+    static final int MAX_DOCUMENT_LENGTH = 16;
+
+    static final int HASH_OFFSET = 0;
+    static final int DOCUMENT_OFFSET = 8;
+    static final int SCORE_OFFSET = 24;
+    static final int MISSED_PAYMENTS_OFFSET = 26;
+    static final int OPEN_ACCOUNTS_OFFSET = 27;
+    static final int HISTORY_MONTHS_OFFSET = 28;
+
+    static final int SEGMENT_SHIFT = 30;
+    static final int MIN_SEGMENT_SHIFT = 6;
+
+    // Slots are kept at most this full so probe sequences stay short
+    static final double MAX_LOAD_FACTOR = 0.7;
+
+    private BureauIndexFormat() {
+    }
+
+    /**
+     * FNV-1a over the document chars followed by the murmur3 finalizer, never 0.
+     * Returns 0 when the document cannot be stored (too long or not ASCII).
+     */
+    static long hash(CharSequence document) {
+        int length = document.length();
+        if (length == 0 || length > MAX_DOCUMENT_LENGTH) {
+            return 0;
+        }
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < length; i++) {
+            char c = document.charAt(i);
+            if (c == 0 || c > 0x7f) {
+                return 0;
+            }
+            h = (h ^ c) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h != 0 ? h : 1;
+    }
+
+    static void checkSegmentShift(int segmentShift) {
+        // The header must fit in the first segment, and a mapping is at most 2 GiB
+        if (segmentShift < MIN_SEGMENT_SHIFT || segmentShift > SEGMENT_SHIFT) {
+            throw new IllegalArgumentException("Segment shift must be between " + MIN_SEGMENT_SHIFT
+                    + " and " + SEGMENT_SHIFT + ": " + segmentShift);
+        }
+    }
+
+    static long slotCountFor(long records) {
+        long needed = Math.max(16, (long) Math.ceil(records / MAX_LOAD_FACTOR));
+        return Long.highestOneBit(needed - 1) << 1;
+    }
+
+    static long fileSize(long slotCount) {
+        return HEADER_SIZE + slotCount * SLOT_SIZE;
+    }
+}
@@ -0,0 +1,239 @@
+package com.mycompany.microservice.risk.bureau;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+import static com.mycompany.microservice.risk.bureau.BureauIndexFormat.*;
+
+/**
+ * Builds a bureau index file for {@link BureauIndex}. Also a small command line
+ * tool (no Spring needed, runs from target/classes):
+ *
+ * <pre>
+ * generate &lt;out.idx&gt; &lt;count&gt; [firstDocument] [seed]   synthetic records for documents firstDocument..firstDocument+count-1
+ * import &lt;in.csv&gt; &lt;out.idx&gt;                          documento,score,missedPayments,openAccounts,historyMonths
+ * </pre>
+ *
+ * The header is only written by {@link #finish()}, so a file left behind by a
+ * failed or interrupted build is rejected by {@link BureauIndex#open} instead
+ * of being served half empty.
+ */
+public final class BureauIndexWriter implements Closeable {
+
+    public static final int MIN_SCORE = 300;
+    public static final int MAX_SCORE = 950;
+
+    private final FileChannel channel;
+    private final ByteBuffer[] segments;
+    private final int segmentShift;
+    private final long slotCount;
+    private final long capacity;
+    private long recordCount;
+
+    private BureauIndexWriter(FileChannel channel, ByteBuffer[] segments, int segmentShift, long slotCount) {
+        this.channel = channel;
+        this.segments = segments;
+        this.segmentShift = segmentShift;
+        this.slotCount = slotCount;
+        this.capacity = (long) (slotCount * MAX_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates (or replaces) the file, sized for the given number of records.
+     */
+    public static BureauIndexWriter create(Path path, long expectedRecords) throws IOException {
+        return create(path, expectedRecords, SEGMENT_SHIFT);
+    }
+
+    /**
+     * As {@link #create(Path, long)}, mapping segments of {@code 1 << segmentShift} bytes.
+     */
+    static BureauIndexWriter create(Path path, long expectedRecords, int segmentShift) throws IOException {
+        checkSegmentShift(segmentShift);
+        long segmentSize = 1L << segmentShift;
+        long slotCount = slotCountFor(expectedRecords);
+        long size = fileSize(slotCount);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            int segmentCount = (int) ((size + segmentSize - 1) >>> segmentShift);
+            ByteBuffer[] segments = new ByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long offset = (long) i << segmentShift;
+                // Mapping past the end grows the (sparse, zero-filled) file
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, offset,
+                        Math.min(segmentSize, size - offset));
+                segments[i] = segment.order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new BureauIndexWriter(channel, segments, segmentShift, slotCount);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Adds or replaces the record of a document.
+     */
+    public void put(CharSequence document, int score, int missedPayments, int openAccounts, int historyMonths) {
+        long hash = hash(document);
+        if (hash == 0) {
+            throw new IllegalArgumentException("Document must be 1-" + MAX_DOCUMENT_LENGTH + " ASCII chars: " + document);
+        }
+        checkRange("score", score, MIN_SCORE, MAX_SCORE);
+        checkRange("missedPayments", missedPayments, 0, 255);
+        checkRange("openAccounts", openAccounts, 0, 255);
+        checkRange("historyMonths", historyMonths, 0, 65_535);
+
+        long mask = slotCount - 1;
+        for (long slot = hash & mask; ; slot = (slot + 1) & mask) {
+            long offset = HEADER_SIZE + slot * SLOT_SIZE;
+            ByteBuffer segment = segments[(int) (offset >>> segmentShift)];
+            int position = (int) (offset & ((1L << segmentShift) - 1));
+            long stored = segment.getLong(position + HASH_OFFSET);
+            if (stored == 0) {
+                if (recordCount == capacity) {
+                    throw new IllegalStateException("Index is full: it was created for fewer records");
+                }
+                recordCount++;
+                segment.putLong(position + HASH_OFFSET, hash);
+                for (int i = 0; i < document.length(); i++) {
+                    segment.put(position + DOCUMENT_OFFSET + i, (byte) document.charAt(i));
+                }
+            } else if (stored != hash || !documentEquals(segment, position, document)) {
+                continue;
+            }
+            segment.putShort(position + SCORE_OFFSET, (short) score);
+            segment.put(position + MISSED_PAYMENTS_OFFSET, (byte) missedPayments);
+            segment.put(position + OPEN_ACCOUNTS_OFFSET, (byte) openAccounts);
+            segment.putShort(position + HISTORY_MONTHS_OFFSET, (short) historyMonths);
+            return;
+        }
+    }
+
+    public long recordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Flushes the records and then writes the header, which makes the file
+     * readable. A writer closed without finishing leaves an invalid file.
+     */
+    public void finish() throws IOException {
+        for (ByteBuffer segment : segments) {
+            ((MappedByteBuffer) segment).force();
+        }
+        ByteBuffer header = segments[0];
+        header.putInt(8, VERSION);
+        header.putInt(12, SLOT_SIZE);
+        header.putLong(16, slotCount);
+        header.putLong(24, recordCount);
+        header.putLong(0, MAGIC);
+        ((MappedByteBuffer) header).force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static boolean documentEquals(ByteBuffer segment, int position, CharSequence document) {
+        int length = document.length();
+        for (int i = 0; i < length; i++) {
+            if (segment.get(position + DOCUMENT_OFFSET + i) != (byte) document.charAt(i)) {
+                return false;
+            }
+        }
+        return length == MAX_DOCUMENT_LENGTH || segment.get(position + DOCUMENT_OFFSET + length) == 0;
+    }
+
+    private static void checkRange(String field, int value, int min, int max) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(field + " must be between " + min + " and " + max + ": " + value);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 3 && args[0].equals("generate")) {
+            long count = Long.parseLong(args[2]);
+            long firstDocument = args.length > 3 ? Long.parseLong(args[3]) : 10_000_000L;
+            long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+            generate(Path.of(args[1]), count, firstDocument, seed);
+        } else if (args.length == 3 && args[0].equals("import")) {
+            importCsv(Path.of(args[1]), Path.of(args[2]));
+        } else {
+            System.err.println("Usage: BureauIndexWriter generate <out.idx> <count> [firstDocument] [seed]");
+            System.err.println("       BureauIndexWriter import <in.csv> <out.idx>");
+            System.exit(2);
+        }
+    }
+
+    private static void generate(Path out, long count, long firstDocument, long seed) throws IOException {
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder document = new StringBuilder(MAX_DOCUMENT_LENGTH);
+        try (BureauIndexWriter writer = create(out, count)) {
+            for (long i = 0; i < count; i++) {
+                // Most people have a clean record; a minority accumulates missed payments
+                int historyMonths = random.nextInt(361);
+                int missedPayments = random.nextInt(10) < 7 ? 0 : 1 + random.nextInt(12);
+                int openAccounts = historyMonths == 0 ? 0 : random.nextInt(9);
+                double score = 640 + 90 * random.nextGaussian() - 25 * missedPayments
+                        + Math.min(historyMonths, 120) / 4.0 - (historyMonths < 12 ? 60 : 0);
+                int clamped = (int) Math.max(MIN_SCORE, Math.min(MAX_SCORE, Math.round(score)));
+
+                document.setLength(0);
+                document.append(firstDocument + i);
+                writer.put(document, clamped, missedPayments, openAccounts, historyMonths);
+                if ((i + 1) % 10_000_000 == 0) {
+                    System.out.printf("%,d records...%n", i + 1);
+                }
+            }
+            writer.finish();
+            System.out.printf("Wrote %,d records (%,d slots) to %s in %d ms%n", writer.recordCount(),
+                    writer.slotCount, out, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private static void importCsv(Path in, Path out) throws IOException {
+        long start = System.nanoTime();
+        long lines;
+        try (var stream = Files.lines(in, StandardCharsets.UTF_8)) {
+            lines = stream.count();
+        }
+        try (BufferedReader reader = Files.newBufferedReader(in, StandardCharsets.UTF_8);
+                BureauIndexWriter writer = create(out, lines)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && line.startsWith("documento"))) {
+                    continue;
+                }
+                String[] fields = line.split(",", -1);
+                try {
+                    if (fields.length != 5) {
+                        throw new IllegalArgumentException("expected 5 columns, found " + fields.length);
+                    }
+                    writer.put(fields[0].trim(), Integer.parseInt(fields[1].trim()), Integer.parseInt(fields[2].trim()),
+                            Integer.parseInt(fields[3].trim()), Integer.parseInt(fields[4].trim()));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(in + ":" + lineNumber + ": " + e.getMessage(), e);
+                }
+            }
+            writer.finish();
+            System.out.printf("Imported %,d records (%,d slots) to %s in %d ms%n", writer.recordCount(),
+                    writer.slotCount, out, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
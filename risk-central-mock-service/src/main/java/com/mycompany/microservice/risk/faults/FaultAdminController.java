@@ -0,0 +1,60 @@
+package com.mycompany.microservice.risk.faults;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+
+/**
+ * Switches the fault profile at runtime. Changes apply to the next request.
+ */
+@RestController
+@RequestMapping("/admin/faults")
+public class FaultAdminController {
+
+    private final FaultInjectionFilter faultInjectionFilter;
+
+    public FaultAdminController(FaultInjectionFilter faultInjectionFilter) {
+        this.faultInjectionFilter = faultInjectionFilter;
+    }
+
+    @GetMapping
+    public ResponseEntity<FaultProfile> getProfile() {
+        return ResponseEntity.ok(faultInjectionFilter.getProfile());
+    }
+
+    @PutMapping
+    public ResponseEntity<FaultProfile> setProfile(@RequestBody FaultProfile profile) {
+        faultInjectionFilter.setProfile(profile);
+        return ResponseEntity.ok(profile);
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> clearProfile() {
+        faultInjectionFilter.setProfile(FaultProfile.NONE);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/presets")
+    public ResponseEntity<Map<String, FaultProfile>> getPresets() {
+        return ResponseEntity.ok(FaultProfile.PRESETS);
+    }
+
+    @PutMapping("/presets/{name}")
+    public ResponseEntity<FaultProfile> applyPreset(@PathVariable("name") String name) {
+        FaultProfile preset = FaultProfile.PRESETS.get(name);
+        if (preset == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown preset " + name);
+        }
+        faultInjectionFilter.setProfile(preset);
+        return ResponseEntity.ok(preset);
+    }
+}
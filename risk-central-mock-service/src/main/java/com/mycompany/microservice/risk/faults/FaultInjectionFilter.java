@@ -0,0 +1,230 @@
+package com.mycompany.microservice.risk.faults;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Applies the active {@link FaultProfile} to /risk-evaluation requests.
+ * Waiting never holds a Tomcat thread: the request is put in async mode and a
+ * single scheduler thread resumes it (async dispatch to the controller), or
+ * releases the injected error or the buffered response chunk by chunk. Those
+ * bodies are written with non-blocking I/O, so a client that stops reading
+ * stalls only its own response, not the scheduler.
+ * The NDJSON stream is never slow-dripped (it would have to be buffered whole);
+ * it only gets the latency.
+ */
+@Component
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(FaultInjectionFilter.class);
+
+    // Container timeout for parked requests; every fault completes well before it
+    private static final long ASYNC_TIMEOUT_MARGIN_MS = 60_000;
+
+    private static final String STREAM_PATH = "/risk-evaluation/stream";
+
+    private final AtomicReference<FaultProfile> profile = new AtomicReference<>(FaultProfile.NONE);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "fault-injector");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public FaultProfile getProfile() {
+        return profile.get();
+    }
+
+    public void setProfile(FaultProfile newProfile) {
+        profile.set(newProfile);
+        logger.info("Fault profile set to {}", newProfile);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/risk-evaluation");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        FaultProfile current = profile.get();
+        FaultProfile.InjectedFault fault = current.sample(ThreadLocalRandom.current());
+        if (fault.isNoop()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        FaultProfile.InjectedFault.Kind kind = fault.kind();
+        if (kind == FaultProfile.InjectedFault.Kind.SLOW_DRIP && request.getRequestURI().equals(STREAM_PATH)) {
+            kind = FaultProfile.InjectedFault.Kind.NONE;
+        }
+        switch (kind) {
+            case NONE -> {
+                // The async dispatch skips this filter and goes straight to the controller
+                AsyncContext async = startAsync(request, fault.delayMs());
+                scheduler.schedule(() -> async.dispatch(), fault.delayMs(), TimeUnit.MILLISECONDS);
+            }
+            case ERROR -> {
+                AsyncContext async = startAsync(request, fault.delayMs());
+                BodyWriter writer = errorWriter(async, response, current.errorStatus(), "Injected fault");
+                scheduler.schedule(writer::releaseAll, fault.delayMs(), TimeUnit.MILLISECONDS);
+            }
+            case TIMEOUT -> {
+                long hangMs = fault.delayMs() + current.timeoutMs();
+                AsyncContext async = startAsync(request, hangMs);
+                BodyWriter writer = errorWriter(async, response, HttpServletResponse.SC_GATEWAY_TIMEOUT,
+                        "Injected timeout");
+                scheduler.schedule(writer::releaseAll, hangMs, TimeUnit.MILLISECONDS);
+            }
+            case SLOW_DRIP -> {
+                // Scoring is instant: produce the whole body now, then release it slowly
+                ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+                chain.doFilter(request, buffered);
+                byte[] body = buffered.getContentAsByteArray();
+                long dripMs = (body.length / current.dripChunkBytes() + 1) * current.dripIntervalMs();
+                AsyncContext async = startAsync(request, fault.delayMs() + dripMs);
+                BodyWriter writer = new BodyWriter(async, body);
+                scheduler.schedule(() -> drip(writer, current.dripChunkBytes(), current.dripIntervalMs()),
+                        fault.delayMs(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private static AsyncContext startAsync(HttpServletRequest request, long expectedMs) {
+        AsyncContext async = request.startAsync();
+        async.setTimeout(expectedMs + ASYNC_TIMEOUT_MARGIN_MS);
+        return async;
+    }
+
+    private static BodyWriter errorWriter(AsyncContext async, HttpServletResponse response, int status,
+            String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        return new BodyWriter(async, ("{\"status\":" + status + ",\"error\":\"" + message + "\"}")
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void drip(BodyWriter writer, int chunkBytes, long intervalMs) {
+        if (writer.release(chunkBytes)) {
+            scheduler.schedule(() -> drip(writer, chunkBytes, intervalMs), intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes a body to an async response as the scheduler releases it, without
+     * blocking: bytes go out only while the stream is ready, the rest from
+     * {@link #onWritePossible()} once the client has read enough. Completes the
+     * response after the last byte. Called from the scheduler and container
+     * threads, never concurrently.
+     */
+    private static final class BodyWriter implements WriteListener {
+
+        private final AsyncContext async;
+        private final byte[] body;
+        private final ServletOutputStream out;
+        private int released;
+        private boolean allReleased;
+        private int written;
+        private boolean flushPending;
+        private boolean closed;
+
+        BodyWriter(AsyncContext async, byte[] body) throws IOException {
+            this.async = async;
+            this.body = body;
+            this.out = async.getResponse().getOutputStream();
+            // From here on every write is non-blocking
+            out.setWriteListener(this);
+        }
+
+        void releaseAll() {
+            release(body.length);
+        }
+
+        /**
+         * Let up to {@code bytes} more bytes out. Returns whether any are left to release.
+         */
+        synchronized boolean release(int bytes) {
+            if (closed) {
+                return false;
+            }
+            released = (int) Math.min(body.length, (long) released + bytes);
+            allReleased = released == body.length;
+            try {
+                writeReleased();
+            } catch (IOException | IllegalStateException e) {
+                fail(e);
+            }
+            return !allReleased && !closed;
+        }
+
+        @Override
+        public synchronized void onWritePossible() throws IOException {
+            if (!closed) {
+                writeReleased();
+            }
+        }
+
+        @Override
+        public synchronized void onError(Throwable t) {
+            fail(t);
+        }
+
+        private void writeReleased() throws IOException {
+            // isReady() returning false registers for the onWritePossible callback
+            while (out.isReady()) {
+                if (written < released) {
+                    out.write(body, written, released - written);
+                    written = released;
+                    flushPending = true;
+                } else if (flushPending) {
+                    flushPending = false;
+                    out.flush();
+                } else {
+                    if (allReleased) {
+                        closed = true;
+                        async.complete();
+                    }
+                    return;
+                }
+            }
+        }
+
+        private void fail(Throwable t) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            logger.debug("Client went away during an injected fault response: {}", t.toString());
+            try {
+                async.complete();
+            } catch (IllegalStateException e) {
+                // Already completed by the container (async timeout)
+            }
+        }
+    }
+}
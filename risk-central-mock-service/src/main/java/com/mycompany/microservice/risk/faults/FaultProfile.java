@@ -0,0 +1,99 @@
+package com.mycompany.microservice.risk.faults;
+
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Faults injected into every /risk-evaluation request. Each request first gets
+ * a latency sample, then at most one of: an error response (errorRate), no
+ * answer for timeoutMs followed by a 504 (timeoutRate), or the normal response
+ * written a few bytes at a time (slowDripRate). Rates are probabilities and
+ * must add up to at most 1.
+ */
+public record FaultProfile(
+        LatencyDistribution latency,
+        double errorRate,
+        Integer errorStatus,
+        double timeoutRate,
+        Long timeoutMs,
+        double slowDripRate,
+        Long dripIntervalMs,
+        Integer dripChunkBytes) {
+
+    public static final FaultProfile NONE = new FaultProfile(null, 0, null, 0, null, 0, null, null);
+
+    /**
+     * Ready-made profiles, activated with PUT /admin/faults/presets/{name}.
+     */
+    public static final Map<String, FaultProfile> PRESETS = Map.of(
+            "none", NONE,
+            // Typical bureau: ~150 ms median, p99 around 1.5 s
+            "slow-bureau", new FaultProfile(new LatencyDistribution.LogNormal(150, 1.0),
+                    0, null, 0, null, 0, null, null),
+            // Occasional 503s and hung requests on top of normal latency
+            "flaky", new FaultProfile(new LatencyDistribution.LogNormal(80, 0.6),
+                    0.05, 503, 0.01, 30_000L, 0, null, null),
+            // Overloaded bureau: slow, frequent errors and dribbled responses
+            "degraded", new FaultProfile(new LatencyDistribution.LogNormal(600, 1.2),
+                    0.15, 503, 0.05, 30_000L, 0.10, 250L, 16));
+
+    public FaultProfile {
+        latency = latency != null ? latency : LatencyDistribution.NONE;
+        errorStatus = errorStatus != null ? errorStatus : 503;
+        timeoutMs = timeoutMs != null ? timeoutMs : 30_000L;
+        dripIntervalMs = dripIntervalMs != null ? dripIntervalMs : 200L;
+        dripChunkBytes = dripChunkBytes != null ? dripChunkBytes : 16;
+
+        requireRate(errorRate, "errorRate");
+        requireRate(timeoutRate, "timeoutRate");
+        requireRate(slowDripRate, "slowDripRate");
+        if (errorRate + timeoutRate + slowDripRate > 1) {
+            throw new IllegalArgumentException("errorRate + timeoutRate + slowDripRate must not exceed 1");
+        }
+        if (errorStatus < 400 || errorStatus > 599) {
+            throw new IllegalArgumentException("errorStatus must be a 4xx or 5xx code");
+        }
+        if (timeoutMs < 0 || dripIntervalMs < 0 || dripChunkBytes < 1) {
+            throw new IllegalArgumentException("timeoutMs and dripIntervalMs must not be negative, dripChunkBytes must be positive");
+        }
+    }
+
+    /**
+     * Decide what happens to one request.
+     */
+    public InjectedFault sample(RandomGenerator random) {
+        long delayMs = latency.sampleMillis(random);
+        double roll = random.nextDouble();
+        InjectedFault.Kind kind;
+        if (roll < errorRate) {
+            kind = InjectedFault.Kind.ERROR;
+        } else if (roll < errorRate + timeoutRate) {
+            kind = InjectedFault.Kind.TIMEOUT;
+        } else if (roll < errorRate + timeoutRate + slowDripRate) {
+            kind = InjectedFault.Kind.SLOW_DRIP;
+        } else {
+            kind = InjectedFault.Kind.NONE;
+        }
+        return new InjectedFault(kind, delayMs);
+    }
+
+    public record InjectedFault(Kind kind, long delayMs) {
+
+        public enum Kind {
+            NONE,
+            ERROR,
+            TIMEOUT,
+            SLOW_DRIP
+        }
+
+        public boolean isNoop() {
+            return kind == Kind.NONE && delayMs == 0;
+        }
+    }
+
+    private static void requireRate(double rate, String name) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException(name + " must be between 0 and 1");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.mycompany.microservice.risk.faults;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Injected latency, selected in JSON by its "type" field.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = LatencyDistribution.Fixed.class, name = "fixed"),
+        @JsonSubTypes.Type(value = LatencyDistribution.Normal.class, name = "normal"),
+        @JsonSubTypes.Type(value = LatencyDistribution.LogNormal.class, name = "lognormal"),
+        @JsonSubTypes.Type(value = LatencyDistribution.Histogram.class, name = "histogram")
+})
+public sealed interface LatencyDistribution {
+
+    LatencyDistribution NONE = new Fixed(0);
+
+    long sampleMillis(RandomGenerator random);
+
+    /**
+     * Same delay for every request.
+     */
+    record Fixed(long millis) implements LatencyDistribution {
+
+        public Fixed {
+            requireNonNegative(millis, "millis");
+        }
+
+        @Override
+        public long sampleMillis(RandomGenerator random) {
+            return millis;
+        }
+    }
+
+    /**
+     * Gaussian delay, truncated at zero.
+     */
+    record Normal(double meanMs, double stdDevMs) implements LatencyDistribution {
+
+        public Normal {
+            requireNonNegative(meanMs, "meanMs");
+            requireNonNegative(stdDevMs, "stdDevMs");
+        }
+
+        @Override
+        public long sampleMillis(RandomGenerator random) {
+            return Math.max(0, Math.round(random.nextGaussian(meanMs, stdDevMs)));
+        }
+    }
+
+    /**
+     * Right-skewed delay typical of remote services: most requests near the
+     * median, with a long tail that grows with sigma (p99 = median * e^(2.33 sigma)).
+     */
+    record LogNormal(double medianMs, double sigma) implements LatencyDistribution {
+
+        public LogNormal {
+            if (!(medianMs > 0)) {
+                throw new IllegalArgumentException("medianMs must be positive");
+            }
+            requireNonNegative(sigma, "sigma");
+        }
+
+        @Override
+        public long sampleMillis(RandomGenerator random) {
+            return Math.round(medianMs * Math.exp(sigma * random.nextGaussian()));
+        }
+    }
+
+    /**
+     * Replays a recorded latency histogram: a bucket is picked with probability
+     * proportional to its count, then a delay uniformly within its bounds
+     * (from the previous bucket's upper bound, or zero, up to upToMs).
+     */
+    record Histogram(List<Bucket> buckets) implements LatencyDistribution {
+
+        public Histogram {
+            if (buckets == null || buckets.isEmpty()) {
+                throw new IllegalArgumentException("histogram needs at least one bucket");
+            }
+            buckets = List.copyOf(buckets);
+            long previous = -1;
+            for (Bucket bucket : buckets) {
+                if (bucket.upToMs() <= previous) {
+                    throw new IllegalArgumentException("bucket bounds must be increasing");
+                }
+                previous = bucket.upToMs();
+            }
+            if (buckets.stream().mapToLong(Bucket::count).sum() <= 0) {
+                throw new IllegalArgumentException("histogram has no samples");
+            }
+        }
+
+        @Override
+        public long sampleMillis(RandomGenerator random) {
+            long total = buckets.stream().mapToLong(Bucket::count).sum();
+            long target = random.nextLong(total);
+            long lower = 0;
+            for (Bucket bucket : buckets) {
+                if (target < bucket.count()) {
+                    return lower + random.nextLong(bucket.upToMs() - lower + 1);
+                }
+                target -= bucket.count();
+                lower = bucket.upToMs();
+            }
+            return lower;
+        }
+
+        public record Bucket(long upToMs, long count) {
+
+            public Bucket {
+                requireNonNegative(upToMs, "upToMs");
+                requireNonNegative(count, "count");
+            }
+        }
+    }
+
+    private static void requireNonNegative(double value, String name) {
+        if (!(value >= 0)) {
+            throw new IllegalArgumentException(name + " must not be negative");
+        }
+    }
+}
@@ -1,10 +0,0 @@
-package com.mycompany.risk.central.mock.service;
-
-/**
- * Hello world!
- */
-public class App {
-    public static void main(String[] args) {
-        System.out.println("Hello World!");
-    }
-}
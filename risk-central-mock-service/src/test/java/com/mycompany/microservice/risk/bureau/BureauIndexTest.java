@@ -0,0 +1,141 @@
+package com.mycompany.microservice.risk.bureau;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records written by BureauIndexWriter read back through BureauIndex, on
+ * 256-byte segments (8 slots) so probes and lookups cross segment boundaries.
+ */
+public class BureauIndexTest {
+
+    private static final int SEGMENT_SHIFT = 8;
+    private static final int RECORDS = 1_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void readsBackEveryRecord() throws IOException {
+        Map<String, int[]> records = new LinkedHashMap<>();
+        for (int i = 0; i < RECORDS; i++) {
+            records.put(String.valueOf(10_000_000L + i * 7_919L), record(i));
+        }
+        Path file = write(records);
+
+        try (BureauIndex index = BureauIndex.open(file, SEGMENT_SHIFT)) {
+            assertEquals(RECORDS, index.recordCount());
+            assertTrue(index.slotCount() * BureauIndexFormat.SLOT_SIZE > 1L << SEGMENT_SHIFT);
+            records.forEach((document, expected) -> assertRecord(index, document, expected));
+        }
+    }
+
+    @Test
+    public void absentDocumentsAreNotFound() throws IOException {
+        Path file = write(Map.of("10000000", record(1), "10000001", record(2)));
+
+        try (BureauIndex index = BureauIndex.open(file, SEGMENT_SHIFT)) {
+            assertEquals(BureauIndex.NOT_FOUND, index.find("10000002"));
+            assertEquals(BureauIndex.NOT_FOUND, index.find("1000000"));
+            assertEquals(BureauIndex.NOT_FOUND, index.find("100000000"));
+            // Not storable at all: empty, too long, not ASCII
+            assertEquals(BureauIndex.NOT_FOUND, index.find(""));
+            assertEquals(BureauIndex.NOT_FOUND, index.find("12345678901234567"));
+            assertEquals(BureauIndex.NOT_FOUND, index.find("1000000ñ"));
+        }
+    }
+
+    @Test
+    public void collidingDocumentsProbeAcrossSegmentsAndWrapAround() throws IOException {
+        long slotCount = BureauIndexFormat.slotCountFor(RECORDS);
+        long lastSlot = slotCount - 1;
+        // Documents whose home is the last slot: all but the first probe past the table's end into slot 0
+        List<String> colliding = new ArrayList<>();
+        for (long candidate = 20_000_000L; colliding.size() < 12; candidate++) {
+            String document = String.valueOf(candidate);
+            if ((BureauIndexFormat.hash(document) & lastSlot) == lastSlot) {
+                colliding.add(document);
+            }
+        }
+        Map<String, int[]> records = new LinkedHashMap<>();
+        for (int i = 0; i < colliding.size(); i++) {
+            records.put(colliding.get(i), record(i));
+        }
+        Path file = write(records);
+
+        try (BureauIndex index = BureauIndex.open(file, SEGMENT_SHIFT)) {
+            assertEquals(slotCount, index.slotCount());
+            records.forEach((document, expected) -> assertRecord(index, document, expected));
+            // Same home slot, never stored: the probe ends at the first empty slot after the run
+            for (long candidate = 30_000_000L; ; candidate++) {
+                String document = String.valueOf(candidate);
+                if ((BureauIndexFormat.hash(document) & lastSlot) == lastSlot) {
+                    assertEquals(BureauIndex.NOT_FOUND, index.find(document));
+                    break;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void rewritingADocumentReplacesItsRecord() throws IOException {
+        Path file = dir.resolve("replaced.idx");
+        try (BureauIndexWriter writer = BureauIndexWriter.create(file, 10, SEGMENT_SHIFT)) {
+            writer.put("123456789", 500, 3, 2, 24);
+            writer.put("123456789", 720, 0, 4, 96);
+            writer.finish();
+            assertEquals(1, writer.recordCount());
+        }
+
+        try (BureauIndex index = BureauIndex.open(file, SEGMENT_SHIFT)) {
+            assertRecord(index, "123456789", new int[] {720, 0, 4, 96});
+        }
+    }
+
+    @Test
+    public void unfinishedFileIsRejected() throws IOException {
+        Path file = dir.resolve("unfinished.idx");
+        try (BureauIndexWriter writer = BureauIndexWriter.create(file, 10, SEGMENT_SHIFT)) {
+            writer.put("123456789", 500, 3, 2, 24);
+        }
+
+        assertThrows(IOException.class, () -> BureauIndex.open(file, SEGMENT_SHIFT));
+    }
+
+    private Path write(Map<String, int[]> records) throws IOException {
+        Path file = dir.resolve("bureau.idx");
+        try (BureauIndexWriter writer = BureauIndexWriter.create(file, RECORDS, SEGMENT_SHIFT)) {
+            records.forEach((document, fields) -> writer.put(document, fields[0], fields[1], fields[2], fields[3]));
+            writer.finish();
+        }
+        return file;
+    }
+
+    /** Score, missed payments, open accounts and history months, spanning each field's range. */
+    private static int[] record(int i) {
+        return new int[] {
+                BureauIndexWriter.MIN_SCORE + i % (BureauIndexWriter.MAX_SCORE - BureauIndexWriter.MIN_SCORE + 1),
+                i % 256, (i * 7) % 256, (i * 131) % 65_536};
+    }
+
+    private static void assertRecord(BureauIndex index, String document, int[] expected) {
+        long record = index.find(document);
+        assertNotEquals(BureauIndex.NOT_FOUND, record, document);
+        assertEquals(expected[0], index.score(record), document);
+        assertEquals(expected[1], index.missedPayments(record), document);
+        assertEquals(expected[2], index.openAccounts(record), document);
+        assertEquals(expected[3], index.historyMonths(record), document);
+    }
+}
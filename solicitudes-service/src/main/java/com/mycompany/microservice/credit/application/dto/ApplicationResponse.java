@@ -1,6 +1,7 @@
 package com.mycompany.microservice.credit.application.dto;
 
 import com.mycompany.microservice.credit.domain.model.CreditApplication;
+import com.mycompany.microservice.credit.domain.model.RiskAssessment;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -17,8 +18,14 @@ public record ApplicationResponse(
         String statusDescription,
         String analystNotes,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt) {
+        LocalDateTime updatedAt,
+        Long version,
+        Integer riskScore,
+        String riskLevel,
+        String riskDetail) {
     public static ApplicationResponse from(CreditApplication app) {
+        // Risk fields stay null until the bureau evaluation completes
+        RiskAssessment risk = app.getRiskAssessment();
         return new ApplicationResponse(
                 app.getId(),
                 app.getUserId(),
@@ -29,6 +36,10 @@ public record ApplicationResponse(
                 app.getStatus().getDescription(),
                 app.getAnalystNotes(),
                 app.getCreatedAt(),
-                app.getUpdatedAt());
+                app.getUpdatedAt(),
+                app.getVersion(),
+                risk != null ? risk.score() : null,
+                risk != null && risk.level() != null ? risk.level().name() : null,
+                risk != null ? risk.detail() : null);
     }
 }
@@ -0,0 +1,23 @@
+package com.mycompany.microservice.credit.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+/**
+ * DTO for changing the status of several applications at once (by Analyst/Admin).
+ */
+public record BulkStatusChangeRequest(
+        @NotEmpty(message = "At least one item is required") @Size(max = 500, message = "At most 500 items per request") List<@Valid Item> items) {
+
+    public record Item(
+            @NotNull(message = "Application id is required") Long id,
+
+            @NotBlank(message = "Status is required") String status, // EN_REVISION, APROBADA, RECHAZADA, PENDIENTE
+
+            @Size(max = 1000, message = "Notes must be less than 1000 characters") String notes,
+
+            Long version // optional: version last read by the client
+    ) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.mycompany.microservice.credit.application.dto;
+
+import com.mycompany.microservice.credit.domain.model.StatusChangeResult;
+import java.util.List;
+
+/**
+ * DTO for the per-item outcome of a bulk status change.
+ */
+public record BulkStatusChangeResponse(
+        int updated,
+        int rejected,
+        List<ItemResult> results) {
+
+    public record ItemResult(
+            Long id,
+            String outcome, // UPDATED, NOT_FOUND, CONFLICT, INVALID
+            String status,
+            Long version,
+            String message) {
+    }
+
+    public static BulkStatusChangeResponse from(List<StatusChangeResult> results) {
+        List<ItemResult> items = results.stream()
+                .map(r -> new ItemResult(
+                        r.id(),
+                        r.outcome().name(),
+                        r.application() != null ? r.application().getStatus().name() : null,
+                        r.application() != null ? r.application().getVersion() : null,
+                        r.message()))
+                .toList();
+        int updated = (int) results.stream()
+                .filter(r -> r.outcome() == StatusChangeResult.Outcome.UPDATED)
+                .count();
+        return new BulkStatusChangeResponse(updated, results.size() - updated, items);
+    }
+}
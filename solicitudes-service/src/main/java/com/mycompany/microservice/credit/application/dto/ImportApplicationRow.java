@@ -0,0 +1,25 @@
+package com.mycompany.microservice.credit.application.dto;
+
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One row of a bulk import (NDJSON object or CSV line with a header row).
+ * status defaults to PENDIENTE and createdAt to the import time.
+ */
+public record ImportApplicationRow(
+        @NotNull(message = "User id is required") Long userId,
+
+        @NotNull(message = "Amount is required") @DecimalMin(value = "100000", message = "Minimum amount is 100,000") @DecimalMax(value = "500000000", message = "Maximum amount is 500,000,000") BigDecimal amount,
+
+        @NotNull(message = "Term is required") @Min(value = 6, message = "Minimum term is 6 months") @Max(value = 120, message = "Maximum term is 120 months") Integer termMonths,
+
+        @NotBlank(message = "Purpose is required") @Size(max = 500, message = "Purpose must be less than 500 characters") String purpose,
+
+        String status, // PENDIENTE, EN_REVISION, APROBADA, RECHAZADA
+
+        @Size(max = 1000, message = "Notes must be less than 1000 characters") String analystNotes,
+
+        LocalDateTime createdAt) {
+}
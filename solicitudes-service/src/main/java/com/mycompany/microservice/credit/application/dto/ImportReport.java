@@ -0,0 +1,19 @@
+package com.mycompany.microservice.credit.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO summarizing a bulk import. Only the first errors are listed;
+ * errorsTruncated tells whether more rows were rejected.
+ */
+public record ImportReport(
+        long totalRows,
+        long imported,
+        long rejected,
+        List<RowError> errors,
+        boolean errorsTruncated,
+        long durationMs) {
+
+    public record RowError(long line, String message) {
+    }
+}
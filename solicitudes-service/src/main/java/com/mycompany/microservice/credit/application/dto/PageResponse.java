@@ -0,0 +1,22 @@
+package com.mycompany.microservice.credit.application.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.mycompany.microservice.credit.domain.model.ApplicationPage;
+import com.mycompany.microservice.credit.domain.model.CreditApplication;
+
+/**
+ * DTO for a cursor-paginated list.
+ * Pass nextCursor back as ?cursor= to fetch the following page; null means no more results.
+ */
+public record PageResponse<T>(
+        List<T> items,
+        int size,
+        String nextCursor) {
+    public static <T> PageResponse<T> from(ApplicationPage page, Function<CreditApplication, T> mapper) {
+        List<T> items = page.items().stream().map(mapper).toList();
+        String nextCursor = page.nextCursor() != null ? page.nextCursor().encode() : null;
+        return new PageResponse<>(items, items.size(), nextCursor);
+    }
+}
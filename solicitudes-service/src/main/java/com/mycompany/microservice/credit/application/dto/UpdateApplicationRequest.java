@@ -11,6 +11,8 @@ public record UpdateApplicationRequest(
 
         @Size(max = 1000, message = "Notes must be less than 1000 characters") String analystNotes,
 
-        String status // PENDIENTE, EN_REVISION, APROBADA, RECHAZADA
+        String status, // PENDIENTE, EN_REVISION, APROBADA, RECHAZADA
+
+        Long version // optional: version last read by the client; stale versions are rejected with 409
 ) {
 }
@@ -0,0 +1,291 @@
+package com.mycompany.microservice.credit.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mycompany.microservice.credit.application.dto.ImportApplicationRow;
+import com.mycompany.microservice.credit.application.dto.ImportReport;
+import com.mycompany.microservice.credit.domain.model.ApplicationStatus;
+import com.mycompany.microservice.credit.domain.model.CreditApplication;
+import com.mycompany.microservice.credit.domain.port.out.CreditApplicationRepository;
+import com.mycompany.microservice.credit.domain.port.out.UserPort;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of credit applications (ANALISTA, ADMIN only).
+ * The input is read as a stream and processed in chunks: rows are validated in
+ * parallel, their users are verified with one batch lookup per chunk, and the
+ * valid rows are inserted as JDBC batches in one transaction per chunk.
+ * A failure while writing stops the import; chunks already written stay committed.
+ */
+@Service
+public class ApplicationImportService {
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationImportService.class);
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int PROGRESS_LOG_INTERVAL = 100_000;
+
+    private final CreditApplicationRepository repository;
+    private final UserPort userPort;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader jsonReader;
+    private final ObjectReader csvReader;
+
+    public ApplicationImportService(CreditApplicationRepository repository, UserPort userPort,
+            Validator validator, TransactionTemplate transactionTemplate, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.userPort = userPort;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.jsonReader = objectMapper.readerFor(ImportApplicationRow.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        CsvMapper csvMapper = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .build();
+        this.csvReader = csvMapper.readerFor(ImportApplicationRow.class)
+                .with(CsvSchema.emptySchema().withHeader());
+    }
+
+    public ImportReport importApplications(InputStream input, Format format) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        Progress progress = new Progress();
+
+        try (RowSource source = format == Format.CSV ? new CsvRowSource(input) : new NdjsonRowSource(input)) {
+            List<ParsedRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            ParsedRow row;
+            while ((row = source.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    processChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, progress);
+            }
+        }
+
+        long durationMs = System.currentTimeMillis() - startedAt;
+        logger.info("Import finished: {} rows, {} imported, {} rejected in {} ms",
+                progress.total, progress.imported, progress.rejected, durationMs);
+        return new ImportReport(progress.total, progress.imported, progress.rejected,
+                List.copyOf(progress.errors), progress.rejected > progress.errors.size(), durationMs);
+    }
+
+    private void processChunk(List<ParsedRow> chunk, Progress progress) {
+        List<ValidatedRow> validated = chunk.parallelStream()
+                .map(this::validate)
+                .toList();
+
+        Set<Long> userIds = validated.stream()
+                .filter(ValidatedRow::isValid)
+                .map(v -> v.application().getUserId())
+                .collect(Collectors.toSet());
+        Set<Long> existingUsers = userIds.isEmpty() ? Set.of() : userPort.findExistingUsers(userIds);
+
+        List<CreditApplication> accepted = new ArrayList<>(validated.size());
+        for (ValidatedRow row : validated) {
+            if (!row.isValid()) {
+                progress.reject(row.line(), row.error());
+            } else if (!existingUsers.contains(row.application().getUserId())) {
+                progress.reject(row.line(), "User " + row.application().getUserId() + " not found in Auth Service");
+            } else {
+                accepted.add(row.application());
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> repository.insertAll(accepted));
+        }
+
+        long before = progress.total;
+        progress.total += chunk.size();
+        progress.imported += accepted.size();
+        if (progress.total / PROGRESS_LOG_INTERVAL > before / PROGRESS_LOG_INTERVAL) {
+            logger.info("Import progress: {} rows read, {} imported, {} rejected",
+                    progress.total, progress.imported, progress.rejected);
+        }
+    }
+
+    private ValidatedRow validate(ParsedRow parsed) {
+        if (parsed.error() != null) {
+            return ValidatedRow.invalid(parsed.line(), parsed.error());
+        }
+        ImportApplicationRow row = parsed.row();
+
+        Set<ConstraintViolation<ImportApplicationRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return ValidatedRow.invalid(parsed.line(), message);
+        }
+
+        ApplicationStatus status = ApplicationStatus.PENDIENTE;
+        if (row.status() != null) {
+            try {
+                status = ApplicationStatus.valueOf(row.status());
+            } catch (IllegalArgumentException e) {
+                return ValidatedRow.invalid(parsed.line(), "status: unknown value " + row.status());
+            }
+        }
+
+        CreditApplication application = new CreditApplication(
+                row.userId(), row.amount(), row.termMonths(), row.purpose());
+        application.setStatus(status);
+        application.setAnalystNotes(row.analystNotes());
+        if (row.createdAt() != null) {
+            application.setCreatedAt(row.createdAt());
+            application.setUpdatedAt(row.createdAt());
+        }
+        return new ValidatedRow(parsed.line(), application, null);
+    }
+
+    private static final class Progress {
+
+        private long total;
+        private long imported;
+        private long rejected;
+        private final List<ImportReport.RowError> errors = new ArrayList<>();
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportReport.RowError(line, message));
+            }
+        }
+    }
+
+    private record ParsedRow(long line, ImportApplicationRow row, String error) {
+    }
+
+    private record ValidatedRow(long line, CreditApplication application, String error) {
+
+        static ValidatedRow invalid(long line, String error) {
+            return new ValidatedRow(line, null, error);
+        }
+
+        boolean isValid() {
+            return error == null;
+        }
+    }
+
+    private interface RowSource extends AutoCloseable {
+
+        /**
+         * Next row, or null at the end of the input.
+         */
+        ParsedRow next() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * One JSON object per line; a malformed line only rejects that line.
+     */
+    private final class NdjsonRowSource implements RowSource {
+
+        private final BufferedReader reader;
+        private long lineNumber;
+
+        private NdjsonRowSource(InputStream input) {
+            this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    return new ParsedRow(lineNumber, jsonReader.readValue(line), null);
+                } catch (JsonProcessingException e) {
+                    return new ParsedRow(lineNumber, null, "Malformed row: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * CSV with a header row naming the columns (any order, unknown columns ignored).
+     * Rows whose values cannot be converted are rejected; broken CSV syntax aborts the import.
+     */
+    private final class CsvRowSource implements RowSource {
+
+        private final MappingIterator<ImportApplicationRow> iterator;
+
+        private CsvRowSource(InputStream input) throws IOException {
+            this.iterator = csvReader.readValues(input);
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            boolean hasNext;
+            try {
+                hasNext = iterator.hasNextValue();
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Malformed CSV at line "
+                        + e.getLocation().getLineNr() + ": " + e.getOriginalMessage());
+            }
+            if (!hasNext) {
+                return null;
+            }
+            long line = iterator.getParser().currentLocation().getLineNr();
+            try {
+                return new ParsedRow(line, iterator.nextValue(), null);
+            } catch (JsonProcessingException | RuntimeJsonMappingException e) {
+                String message = e instanceof JsonProcessingException jpe ? jpe.getOriginalMessage() : e.getMessage();
+                return new ParsedRow(line, null, "Malformed row: " + message);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            iterator.close();
+        }
+    }
+}
@@ -1,17 +1,34 @@
 package com.mycompany.microservice.credit.application.service;
 
+import com.mycompany.microservice.credit.application.dto.BulkStatusChangeRequest;
 import com.mycompany.microservice.credit.infrastructure.controllers.exception.ApplicationCannotBeDeletedException;
+import com.mycompany.microservice.credit.infrastructure.controllers.exception.ApplicationConflictException;
 import com.mycompany.microservice.credit.infrastructure.controllers.exception.ApplicationNotFoundException;
 import com.mycompany.microservice.credit.infrastructure.controllers.exception.UnauthorizedAccessException;
+import com.mycompany.microservice.credit.domain.model.ApplicationPage;
+import com.mycompany.microservice.credit.domain.model.ApplicationSearchCriteria;
 import com.mycompany.microservice.credit.domain.model.ApplicationStatus;
 import com.mycompany.microservice.credit.domain.model.CreditApplication;
+import com.mycompany.microservice.credit.domain.model.PageCursor;
+import com.mycompany.microservice.credit.domain.model.StatusChange;
+import com.mycompany.microservice.credit.domain.model.StatusChangeResult;
 import com.mycompany.microservice.credit.domain.port.out.CreditApplicationRepository;
+import com.mycompany.microservice.credit.domain.port.out.RiskEvaluationPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * Application service for credit application operations.
@@ -23,17 +40,25 @@ import java.util.List;
 @Transactional
 public class CreditApplicationService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final CreditApplicationRepository repository;
     private final com.mycompany.microservice.credit.domain.port.out.UserPort userPort;
+    private final RiskEvaluationPort riskEvaluationPort;
 
     public CreditApplicationService(CreditApplicationRepository repository,
-            com.mycompany.microservice.credit.domain.port.out.UserPort userPort) {
+            com.mycompany.microservice.credit.domain.port.out.UserPort userPort,
+            RiskEvaluationPort riskEvaluationPort) {
         this.repository = repository;
         this.userPort = userPort;
+        this.riskEvaluationPort = riskEvaluationPort;
     }
 
     /**
      * Create a new credit application (AFILIADO only).
+     * The risk evaluation runs in the background after commit; the returned
+     * application has no assessment yet.
      */
     public CreditApplication create(Long userId,
             BigDecimal amount, Integer termMonths, String purpose) {
@@ -46,21 +71,71 @@ public class CreditApplicationService {
 
         CreditApplication application = new CreditApplication(
                 userId, amount, termMonths, purpose);
-        return repository.save(application);
+        CreditApplication saved = repository.save(application);
+        riskEvaluationPort.requestEvaluation(saved);
+        return saved;
+    }
+
+    /**
+     * Get one page of applications for a specific user (AFILIADO), newest first.
+     */
+    @Transactional(readOnly = true)
+    public ApplicationPage getMyApplications(Long userId, String cursor, int size) {
+        return findPage(userId, cursor, size);
     }
 
     /**
-     * Get applications for a specific user (AFILIADO).
+     * Get one page of all applications (ANALISTA, ADMIN only), newest first.
      */
-    public List<CreditApplication> getMyApplications(Long userId) {
-        return repository.findByUserId(userId);
+    @Transactional(readOnly = true)
+    public ApplicationPage getAllApplications(String cursor, int size) {
+        return findPage(null, cursor, size);
     }
 
     /**
-     * Get all applications (ANALISTA, ADMIN only).
+     * Search applications by the given criteria (ANALISTA, ADMIN only), newest first.
      */
-    public List<CreditApplication> getAllApplications() {
-        return repository.findAll();
+    @Transactional(readOnly = true)
+    public ApplicationPage search(ApplicationSearchCriteria criteria, String cursor, int size) {
+        validatePageSize(size);
+        PageCursor after = decodeCursor(cursor);
+        return toPage(repository.search(criteria, after, size + 1), size);
+    }
+
+    private ApplicationPage findPage(Long userId, String cursor, int size) {
+        validatePageSize(size);
+        PageCursor after = decodeCursor(cursor);
+        return toPage(repository.findPage(userId, after, size + 1), size);
+    }
+
+    // Page and rejection helpers below are shared with ReactiveCreditApplicationService
+
+    static void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    static PageCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : PageCursor.decode(cursor);
+    }
+
+    // rows holds up to size + 1 entries; the extra one only signals that another page exists
+    static ApplicationPage toPage(List<CreditApplication> rows, int size) {
+        if (rows.size() <= size) {
+            return new ApplicationPage(rows, null);
+        }
+        List<CreditApplication> items = rows.subList(0, size);
+        return new ApplicationPage(items, PageCursor.after(items.get(size - 1)));
+    }
+
+    /**
+     * Export every application matching the optional filters (ANALISTA, ADMIN only).
+     * Applications are handed to the sink one at a time, in id order.
+     */
+    @Transactional(readOnly = true)
+    public void exportApplications(Long userId, ApplicationStatus status, Consumer<CreditApplication> sink) {
+        repository.forEachMatching(userId, status, sink);
     }
 
     /**
@@ -70,13 +145,15 @@ public class CreditApplicationService {
     public CreditApplication getById(Long id, Long userId, String role) {
         CreditApplication application = repository.findById(id)
                 .orElseThrow(() -> ApplicationNotFoundException.byId(id));
+        checkCanView(application, userId, role);
+        return application;
+    }
 
+    static void checkCanView(CreditApplication application, Long userId, String role) {
         // AFILIADO can only see their own applications
         if ("ROLE_AFILIADO".equals(role) && !application.isOwnedBy(userId)) {
             throw UnauthorizedAccessException.notOwner();
         }
-
-        return application;
     }
 
     /**
@@ -85,7 +162,11 @@ public class CreditApplicationService {
     public void delete(Long id, Long userId, String role) {
         CreditApplication application = repository.findById(id)
                 .orElseThrow(() -> ApplicationNotFoundException.byId(id));
+        checkCanDelete(application, userId, role);
+        repository.deleteById(id);
+    }
 
+    static void checkCanDelete(CreditApplication application, Long userId, String role) {
         // AFILIADO can only delete their own pending applications
         if ("ROLE_AFILIADO".equals(role)) {
             if (!application.isOwnedBy(userId)) {
@@ -95,41 +176,133 @@ public class CreditApplicationService {
                 throw ApplicationCannotBeDeletedException.notPending();
             }
         }
-
-        repository.deleteById(id);
     }
 
     /**
      * Update application (ANALISTA, ADMIN only).
+     * Runs as a single conditional UPDATE; a status change must be a valid transition
+     * from the current status, and a given version must still be current.
      */
     public CreditApplication update(Long id,
-            String analystNotes, String statusStr) {
-        CreditApplication application = repository.findById(id)
-                .orElseThrow(() -> ApplicationNotFoundException.byId(id));
+            String analystNotes, String statusStr, Long expectedVersion) {
+        ApplicationStatus status = statusStr != null ? ApplicationStatus.valueOf(statusStr) : null;
+        return transition(id, status, analystNotes, expectedVersion);
+    }
 
-        if (analystNotes != null) {
-            application.setAnalystNotes(analystNotes);
+    /**
+     * Update status only (ADMIN only).
+     */
+    public CreditApplication updateStatus(Long id, String statusStr, Long expectedVersion) {
+        ApplicationStatus status = ApplicationStatus.valueOf(statusStr);
+        return transition(id, status, null, expectedVersion);
+    }
+
+    /**
+     * Change the status of several applications (ANALISTA, ADMIN only).
+     * Reads all of them with one query, validates each transition, and writes the
+     * valid ones as a single JDBC batch in this transaction. Invalid items are
+     * reported and skipped; they do not roll back the others.
+     */
+    public List<StatusChangeResult> bulkUpdateStatus(List<BulkStatusChangeRequest.Item> items) {
+        Set<Long> ids = items.stream().map(BulkStatusChangeRequest.Item::id).collect(Collectors.toSet());
+        Map<Long, CreditApplication> current = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CreditApplication::getId, Function.identity()));
+
+        StatusChangeResult[] results = new StatusChangeResult[items.size()];
+        Map<Integer, StatusChange> accepted = new HashMap<>();
+        Set<Long> seen = new HashSet<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            BulkStatusChangeRequest.Item item = items.get(i);
+            CreditApplication application = current.get(item.id());
+            ApplicationStatus status = parseStatus(item.status());
+
+            if (!seen.add(item.id())) {
+                results[i] = StatusChangeResult.invalid(item.id(), "Duplicate application id in request");
+            } else if (status == null) {
+                results[i] = StatusChangeResult.invalid(item.id(), "Unknown status: " + item.status());
+            } else if (application == null) {
+                results[i] = StatusChangeResult.notFound(item.id());
+            } else if (item.version() != null && !item.version().equals(application.getVersion())) {
+                results[i] = StatusChangeResult.conflict(application,
+                        ApplicationConflictException.staleVersion(item.id(), item.version(), application.getVersion())
+                                .getMessage());
+            } else if (!status.allowedPredecessors().contains(application.getStatus())) {
+                results[i] = StatusChangeResult.conflict(application,
+                        ApplicationConflictException.invalidTransition(application.getStatus(), status).getMessage());
+            } else {
+                // Guard the write with the version just read, so concurrent changes are not overwritten
+                accepted.put(i, new StatusChange(item.id(), status, item.notes(), application.getVersion()));
+            }
         }
-        if (statusStr != null) {
-            ApplicationStatus status = ApplicationStatus.valueOf(statusStr);
-            application.setStatus(status);
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> updated = accepted.isEmpty()
+                ? Set.of()
+                : repository.applyStatusChanges(new ArrayList<>(accepted.values()), now);
+
+        accepted.forEach((i, change) -> {
+            CreditApplication application = current.get(change.id());
+            if (updated.contains(change.id())) {
+                application.setStatus(change.status());
+                if (change.analystNotes() != null) {
+                    application.setAnalystNotes(change.analystNotes());
+                }
+                application.setUpdatedAt(now);
+                application.setVersion(application.getVersion() + 1);
+                results[i] = StatusChangeResult.updated(application);
+            } else {
+                results[i] = StatusChangeResult.conflict(application,
+                        ApplicationConflictException.modifiedConcurrently(change.id()).getMessage());
+            }
+        });
+        return List.of(results);
+    }
+
+    private static ApplicationStatus parseStatus(String status) {
+        try {
+            return ApplicationStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            return null;
         }
-        application.setUpdatedAt(LocalDateTime.now());
+    }
 
-        return repository.save(application);
+    private CreditApplication transition(Long id, ApplicationStatus status,
+            String analystNotes, Long expectedVersion) {
+        Set<ApplicationStatus> expectedStatuses = expectedStatuses(status);
+        return repository.updateIfCurrent(id, expectedStatuses, expectedVersion, status, analystNotes)
+                .orElseThrow(() -> rejectedUpdate(id, status, expectedStatuses, expectedVersion));
     }
 
-    /**
-     * Update status only (ADMIN only).
-     */
-    public CreditApplication updateStatus(Long id, String statusStr) {
-        CreditApplication application = repository.findById(id)
-                .orElseThrow(() -> ApplicationNotFoundException.byId(id));
+    static Set<ApplicationStatus> expectedStatuses(ApplicationStatus status) {
+        // Notes-only updates are allowed in any status
+        return status != null
+                ? status.allowedPredecessors()
+                : EnumSet.allOf(ApplicationStatus.class);
+    }
 
-        ApplicationStatus status = ApplicationStatus.valueOf(statusStr);
-        application.setStatus(status);
-        application.setUpdatedAt(LocalDateTime.now());
+    // No row matched: re-read only on this (rare) path to report why
+    private RuntimeException rejectedUpdate(Long id, ApplicationStatus status,
+            Set<ApplicationStatus> expectedStatuses, Long expectedVersion) {
+        return rejection(repository.findById(id).orElse(null), id, status, expectedStatuses, expectedVersion);
+    }
 
-        return repository.save(application);
+    /**
+     * Why a conditional update matched no row, given the application as re-read
+     * afterwards (null if it no longer exists).
+     */
+    static RuntimeException rejection(CreditApplication current, Long id, ApplicationStatus status,
+            Set<ApplicationStatus> expectedStatuses, Long expectedVersion) {
+        if (current == null) {
+            return ApplicationNotFoundException.byId(id);
+        }
+        if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+            return ApplicationConflictException.staleVersion(id, expectedVersion, current.getVersion());
+        }
+        if (!expectedStatuses.contains(current.getStatus())) {
+            return ApplicationConflictException.invalidTransition(current.getStatus(), status);
+        }
+        // Changed between the update and the re-read
+        return ApplicationConflictException.modifiedConcurrently(id);
     }
 }
@@ -0,0 +1,130 @@
+package com.mycompany.microservice.credit.application.service;
+
+import com.mycompany.microservice.credit.domain.model.ApplicationPage;
+import com.mycompany.microservice.credit.domain.model.ApplicationStatus;
+import com.mycompany.microservice.credit.domain.model.CreditApplication;
+import com.mycompany.microservice.credit.domain.port.out.ReactiveCreditApplicationRepository;
+import com.mycompany.microservice.credit.domain.port.out.ReactiveUserPort;
+import com.mycompany.microservice.credit.domain.port.out.RiskEvaluationPort;
+import com.mycompany.microservice.credit.infrastructure.config.R2dbcConfig;
+import com.mycompany.microservice.credit.infrastructure.controllers.exception.ApplicationNotFoundException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * Non-blocking counterpart of {@link CreditApplicationService} for the request
+ * path (r2dbc profile), with the same rules and errors. No thread waits on
+ * auth-service or the database: every operation is a single Mono.
+ *
+ * <p>Each statement commits on its own, as the write paths already were single
+ * statements; there is no surrounding transaction.
+ */
+@Service
+@Profile(R2dbcConfig.PROFILE)
+public class ReactiveCreditApplicationService {
+
+    private final ReactiveCreditApplicationRepository repository;
+    private final ReactiveUserPort userPort;
+    private final RiskEvaluationPort riskEvaluationPort;
+
+    public ReactiveCreditApplicationService(ReactiveCreditApplicationRepository repository,
+            ReactiveUserPort userPort, RiskEvaluationPort riskEvaluationPort) {
+        this.repository = repository;
+        this.userPort = userPort;
+        this.riskEvaluationPort = riskEvaluationPort;
+    }
+
+    /**
+     * Create a new credit application (AFILIADO only).
+     * The row is committed when the Mono emits, so the risk evaluation is queued at once.
+     */
+    public Mono<CreditApplication> create(Long userId,
+            BigDecimal amount, Integer termMonths, String purpose) {
+        return userPort.exists(userId)
+                .flatMap(exists -> exists
+                        ? repository.save(new CreditApplication(userId, amount, termMonths, purpose))
+                        : Mono.error(new RuntimeException("User not found in Auth Service")))
+                // The pipeline may start the evaluation on the calling thread: keep it off the R2DBC event loop
+                .publishOn(Schedulers.parallel())
+                .doOnNext(riskEvaluationPort::requestEvaluation);
+    }
+
+    /**
+     * Get one page of applications for a specific user (AFILIADO), newest first.
+     */
+    public Mono<ApplicationPage> getMyApplications(Long userId, String cursor, int size) {
+        return findPage(userId, cursor, size);
+    }
+
+    /**
+     * Get one page of all applications (ANALISTA, ADMIN only), newest first.
+     */
+    public Mono<ApplicationPage> getAllApplications(String cursor, int size) {
+        return findPage(null, cursor, size);
+    }
+
+    private Mono<ApplicationPage> findPage(Long userId, String cursor, int size) {
+        return Mono.defer(() -> {
+            CreditApplicationService.validatePageSize(size);
+            return repository.findPage(userId, CreditApplicationService.decodeCursor(cursor), size + 1)
+                    .collectList()
+                    .map(rows -> CreditApplicationService.toPage(rows, size));
+        });
+    }
+
+    /**
+     * Get application by ID.
+     * AFILIADO can only access their own applications.
+     */
+    public Mono<CreditApplication> getById(Long id, Long userId, String role) {
+        return findExisting(id)
+                .doOnNext(application -> CreditApplicationService.checkCanView(application, userId, role));
+    }
+
+    /**
+     * Delete application (AFILIADO owner, or ANALISTA/ADMIN).
+     */
+    public Mono<Void> delete(Long id, Long userId, String role) {
+        return findExisting(id)
+                .doOnNext(application -> CreditApplicationService.checkCanDelete(application, userId, role))
+                .flatMap(application -> repository.deleteById(id));
+    }
+
+    /**
+     * Update application (ANALISTA, ADMIN only), as one conditional UPDATE.
+     */
+    public Mono<CreditApplication> update(Long id,
+            String analystNotes, String statusStr, Long expectedVersion) {
+        return Mono.defer(() -> transition(id,
+                statusStr != null ? ApplicationStatus.valueOf(statusStr) : null, analystNotes, expectedVersion));
+    }
+
+    /**
+     * Update status only (ADMIN only).
+     */
+    public Mono<CreditApplication> updateStatus(Long id, String statusStr, Long expectedVersion) {
+        return Mono.defer(() -> transition(id, ApplicationStatus.valueOf(statusStr), null, expectedVersion));
+    }
+
+    private Mono<CreditApplication> findExisting(Long id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> ApplicationNotFoundException.byId(id)));
+    }
+
+    private Mono<CreditApplication> transition(Long id, ApplicationStatus status,
+            String analystNotes, Long expectedVersion) {
+        Set<ApplicationStatus> expectedStatuses = CreditApplicationService.expectedStatuses(status);
+        return repository.updateIfCurrent(id, expectedStatuses, expectedVersion, status, analystNotes)
+                // No row matched: re-read only on this (rare) path to report why
+                .switchIfEmpty(Mono.defer(() -> repository.findById(id)
+                        .map(current -> CreditApplicationService.rejection(
+                                current, id, status, expectedStatuses, expectedVersion))
+                        .defaultIfEmpty(ApplicationNotFoundException.byId(id))
+                        .flatMap(rejection -> Mono.<CreditApplication>error(rejection))));
+    }
+}
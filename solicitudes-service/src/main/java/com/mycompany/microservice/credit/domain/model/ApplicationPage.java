@@ -0,0 +1,10 @@
+package com.mycompany.microservice.credit.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of applications, newest first.
+ * nextCursor is null on the last page.
+ */
+public record ApplicationPage(List<CreditApplication> items, PageCursor nextCursor) {
+}
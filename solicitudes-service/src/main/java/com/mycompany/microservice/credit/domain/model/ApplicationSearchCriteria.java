@@ -0,0 +1,27 @@
+package com.mycompany.microservice.credit.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for searching credit applications; null means "any".
+ * Ranges are inclusive on both ends.
+ */
+public record ApplicationSearchCriteria(
+        ApplicationStatus status,
+        Long userId,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        Integer termMonths,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo) {
+
+    public ApplicationSearchCriteria {
+        if (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("minAmount must not be greater than maxAmount");
+        }
+        if (createdFrom != null && createdTo != null && createdFrom.isAfter(createdTo)) {
+            throw new IllegalArgumentException("createdFrom must not be after createdTo");
+        }
+    }
+}
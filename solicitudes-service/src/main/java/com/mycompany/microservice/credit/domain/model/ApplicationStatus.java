@@ -1,5 +1,8 @@
 package com.mycompany.microservice.credit.domain.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Domain enum representing credit application status.
  */
@@ -18,4 +21,18 @@ public enum ApplicationStatus {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * Statuses an application may be in for a transition to this one.
+     * PENDIENTE -> EN_REVISION -> APROBADA / RECHAZADA; a review can be sent back
+     * to PENDIENTE, and pending applications can be decided directly.
+     * APROBADA and RECHAZADA are final.
+     */
+    public Set<ApplicationStatus> allowedPredecessors() {
+        return switch (this) {
+            case PENDIENTE -> EnumSet.of(EN_REVISION);
+            case EN_REVISION -> EnumSet.of(PENDIENTE);
+            case APROBADA, RECHAZADA -> EnumSet.of(PENDIENTE, EN_REVISION);
+        };
+    }
 }
@@ -18,6 +18,8 @@ public class CreditApplication {
     private String analystNotes;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
+    private RiskAssessment riskAssessment;
 
     public CreditApplication() {
     }
@@ -38,7 +40,8 @@ public class CreditApplication {
     public CreditApplication(Long id, Long userId,
             BigDecimal amount, Integer termMonths, String purpose,
             ApplicationStatus status, String analystNotes,
-            LocalDateTime createdAt, LocalDateTime updatedAt) {
+            LocalDateTime createdAt, LocalDateTime updatedAt, Long version,
+            RiskAssessment riskAssessment) {
         this.id = id;
         this.userId = userId;
         this.amount = amount;
@@ -48,6 +51,8 @@ public class CreditApplication {
         this.analystNotes = analystNotes;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
+        this.riskAssessment = riskAssessment;
     }
 
     // Domain behavior
@@ -148,4 +153,23 @@ public class CreditApplication {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    /**
+     * Bureau assessment, or null while the evaluation is pending.
+     */
+    public RiskAssessment getRiskAssessment() {
+        return riskAssessment;
+    }
+
+    public void setRiskAssessment(RiskAssessment riskAssessment) {
+        this.riskAssessment = riskAssessment;
+    }
 }
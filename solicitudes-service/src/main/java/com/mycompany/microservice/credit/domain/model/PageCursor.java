@@ -0,0 +1,40 @@
+package com.mycompany.microservice.credit.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the (createdAt desc, id desc) ordering of applications.
+ * Exposed to clients as an opaque URL-safe token.
+ */
+public record PageCursor(LocalDateTime createdAt, Long id) {
+
+    public PageCursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor requires createdAt and id");
+        }
+    }
+
+    public static PageCursor after(CreditApplication application) {
+        return new PageCursor(application.getCreatedAt(), application.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+    }
+}
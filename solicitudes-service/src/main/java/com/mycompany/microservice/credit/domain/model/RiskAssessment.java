@@ -0,0 +1,10 @@
+package com.mycompany.microservice.credit.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Result of the credit bureau evaluation of an application.
+ * Score ranges from 300 to 950; higher is better.
+ */
+public record RiskAssessment(Integer score, RiskLevel level, String detail, LocalDateTime evaluatedAt) {
+}
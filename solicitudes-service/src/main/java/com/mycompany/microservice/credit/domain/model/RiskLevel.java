@@ -0,0 +1,10 @@
+package com.mycompany.microservice.credit.domain.model;
+
+/**
+ * Risk level assigned by the credit bureau (risk-central).
+ */
+public enum RiskLevel {
+    BAJO,
+    MEDIO,
+    ALTO
+}
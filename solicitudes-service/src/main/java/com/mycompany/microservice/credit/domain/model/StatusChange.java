@@ -0,0 +1,9 @@
+package com.mycompany.microservice.credit.domain.model;
+
+/**
+ * Requested status change for one application in a bulk update.
+ * expectedVersion is optional; when present the change is rejected if the
+ * application has moved on since the client read it.
+ */
+public record StatusChange(Long id, ApplicationStatus status, String analystNotes, Long expectedVersion) {
+}
@@ -0,0 +1,32 @@
+package com.mycompany.microservice.credit.domain.model;
+
+/**
+ * Outcome of one item of a bulk status change.
+ * application holds the updated state for UPDATED items, otherwise the current
+ * state when known (null for NOT_FOUND and INVALID).
+ */
+public record StatusChangeResult(Long id, Outcome outcome, CreditApplication application, String message) {
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        CONFLICT,
+        INVALID
+    }
+
+    public static StatusChangeResult updated(CreditApplication application) {
+        return new StatusChangeResult(application.getId(), Outcome.UPDATED, application, null);
+    }
+
+    public static StatusChangeResult notFound(Long id) {
+        return new StatusChangeResult(id, Outcome.NOT_FOUND, null, "Credit application not found");
+    }
+
+    public static StatusChangeResult conflict(CreditApplication current, String message) {
+        return new StatusChangeResult(current.getId(), Outcome.CONFLICT, current, message);
+    }
+
+    public static StatusChangeResult invalid(Long id, String message) {
+        return new StatusChangeResult(id, Outcome.INVALID, null, message);
+    }
+}
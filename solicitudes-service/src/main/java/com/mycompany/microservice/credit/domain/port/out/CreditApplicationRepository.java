@@ -1,8 +1,17 @@
 package com.mycompany.microservice.credit.domain.port.out;
 
+import com.mycompany.microservice.credit.domain.model.ApplicationSearchCriteria;
+import com.mycompany.microservice.credit.domain.model.ApplicationStatus;
 import com.mycompany.microservice.credit.domain.model.CreditApplication;
+import com.mycompany.microservice.credit.domain.model.PageCursor;
+import com.mycompany.microservice.credit.domain.model.RiskAssessment;
+import com.mycompany.microservice.credit.domain.model.StatusChange;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Output port for credit application persistence.
@@ -11,11 +20,69 @@ public interface CreditApplicationRepository {
     
     CreditApplication save(CreditApplication application);
     
+    /**
+     * Insert new applications as batched statements without reading them back.
+     * Must run inside a transaction.
+     */
+    void insertAll(List<CreditApplication> applications);
+    
     Optional<CreditApplication> findById(Long id);
     
-    List<CreditApplication> findByUserId(Long userId);
+    List<CreditApplication> findAllById(Collection<Long> ids);
+    
+    /**
+     * Conditional update in a single statement: sets the new status and/or notes
+     * (null leaves the value unchanged) and increments the version, but only while
+     * the application is in one of {@code expectedStatuses} and, if given, still at
+     * {@code expectedVersion}.
+     *
+     * @return the updated application, or empty if no row matched
+     */
+    Optional<CreditApplication> updateIfCurrent(Long id, Set<ApplicationStatus> expectedStatuses,
+            Long expectedVersion, ApplicationStatus newStatus, String analystNotes);
+    
+    /**
+     * Apply the changes as one batch in the current transaction. Each change is
+     * only applied while the application is still at its expectedVersion.
+     *
+     * @return ids of the applications that were updated
+     */
+    Set<Long> applyStatusChanges(List<StatusChange> changes, LocalDateTime updatedAt);
+    
+    /**
+     * Store the bureau assessment of an application in its own transaction.
+     * Neither the version nor updatedAt change: the assessment is not an edit
+     * of the application, so it never conflicts with analyst updates.
+     *
+     * @return false if the application no longer exists
+     */
+    boolean saveRiskAssessment(Long id, RiskAssessment assessment);
+    
+    /**
+     * Most recent bureau assessment stored on any application of the user,
+     * provided it was made at or after {@code evaluatedSince}.
+     */
+    Optional<RiskAssessment> findLatestRiskAssessment(Long userId, LocalDateTime evaluatedSince);
+    
+    /**
+     * Up to {@code limit} applications ordered by (createdAt desc, id desc),
+     * strictly after the given cursor (null for the first page).
+     * A null userId lists applications of all users.
+     */
+    List<CreditApplication> findPage(Long userId, PageCursor after, int limit);
+    
+    /**
+     * Same ordering and cursor semantics as {@link #findPage}, restricted to
+     * applications matching the criteria.
+     */
+    List<CreditApplication> search(ApplicationSearchCriteria criteria, PageCursor after, int limit);
     
-    List<CreditApplication> findAll();
+    /**
+     * Pass every application matching the optional filters to {@code action},
+     * in id order, without holding the result set in memory.
+     * Must run inside a transaction.
+     */
+    void forEachMatching(Long userId, ApplicationStatus status, Consumer<CreditApplication> action);
     
     void deleteById(Long id);
     
@@ -0,0 +1,34 @@
+package com.mycompany.microservice.credit.domain.port.out;
+
+import com.mycompany.microservice.credit.domain.model.ApplicationStatus;
+import com.mycompany.microservice.credit.domain.model.CreditApplication;
+import com.mycompany.microservice.credit.domain.model.PageCursor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * Non-blocking output port for the request-path subset of
+ * {@link CreditApplicationRepository}, with the same semantics.
+ * An empty Mono stands for an empty Optional.
+ */
+public interface ReactiveCreditApplicationRepository {
+
+    Mono<CreditApplication> save(CreditApplication application);
+
+    Mono<CreditApplication> findById(Long id);
+
+    /**
+     * See {@link CreditApplicationRepository#updateIfCurrent}.
+     */
+    Mono<CreditApplication> updateIfCurrent(Long id, Set<ApplicationStatus> expectedStatuses,
+            Long expectedVersion, ApplicationStatus newStatus, String analystNotes);
+
+    /**
+     * See {@link CreditApplicationRepository#findPage}.
+     */
+    Flux<CreditApplication> findPage(Long userId, PageCursor after, int limit);
+
+    Mono<Void> deleteById(Long id);
+}
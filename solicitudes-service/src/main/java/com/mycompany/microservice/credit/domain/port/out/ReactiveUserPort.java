@@ -0,0 +1,11 @@
+package com.mycompany.microservice.credit.domain.port.out;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link UserPort#userExists}.
+ */
+public interface ReactiveUserPort {
+
+    Mono<Boolean> exists(Long userId);
+}
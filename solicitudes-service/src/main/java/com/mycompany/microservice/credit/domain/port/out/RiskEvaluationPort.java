@@ -0,0 +1,12 @@
+package com.mycompany.microservice.credit.domain.port.out;
+
+import com.mycompany.microservice.credit.domain.model.CreditApplication;
+
+public interface RiskEvaluationPort {
+
+    /**
+     * Schedule the risk evaluation of a saved application and return immediately.
+     * The assessment is stored on the application once the bureau answers.
+     */
+    void requestEvaluation(CreditApplication application);
+}
@@ -1,5 +1,12 @@
 package com.mycompany.microservice.credit.domain.port.out;
 
+import java.util.Set;
+
 public interface UserPort {
     boolean userExists(Long userId);
+
+    /**
+     * Subset of the given ids that belong to existing users (bulk variant for imports).
+     */
+    Set<Long> findExistingUsers(Set<Long> userIds);
 }
@@ -0,0 +1,126 @@
+package com.mycompany.microservice.credit.infrastructure.adapter.external;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.mycompany.microservice.credit.domain.port.out.ReactiveUserPort;
+import com.mycompany.microservice.credit.domain.port.out.UserPort;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Caching decorator for the {@link UserAdapter} remote lookup.
+ * Existing and missing users are cached with separate TTLs, and concurrent
+ * lookups for the same id share a single in-flight call to auth-service.
+ * The reactive variant shares the same cache without ever blocking.
+ */
+@Component
+@Primary
+public class CachingUserAdapter implements UserPort, ReactiveUserPort {
+
+    private final UserAdapter delegate;
+    private final AsyncCache<Long, Boolean> cache;
+
+    public CachingUserAdapter(UserAdapter delegate,
+            MeterRegistry meterRegistry,
+            @Value("${auth.user-cache.max-size:50000}") long maxSize,
+            @Value("${auth.user-cache.positive-ttl:10m}") Duration positiveTtl,
+            @Value("${auth.user-cache.negative-ttl:30s}") Duration negativeTtl) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ByResultExpiry(positiveTtl, negativeTtl))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.users");
+    }
+
+    @Override
+    public boolean userExists(Long userId) {
+        CompletableFuture<Boolean> pending = new CompletableFuture<>();
+        CompletableFuture<Boolean> result = cache.get(userId, (id, executor) -> pending);
+
+        // Only the caller that registered the future performs the remote call,
+        // on its own thread; failed lookups are dropped from the cache.
+        if (result == pending) {
+            try {
+                pending.complete(delegate.userExists(userId));
+            } catch (RuntimeException e) {
+                pending.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Mono<Boolean> exists(Long userId) {
+        // A cancelled subscriber must not cancel the future other callers may be waiting on
+        return Mono.fromFuture(() -> cache.get(userId, (id, executor) -> delegate.lookup(id)), true);
+    }
+
+    @Override
+    public Set<Long> findExistingUsers(Set<Long> userIds) {
+        Map<Long, Boolean> cached = cache.synchronous().getAllPresent(userIds);
+        Set<Long> existing = new HashSet<>();
+        cached.forEach((id, exists) -> {
+            if (exists) {
+                existing.add(id);
+            }
+        });
+
+        Set<Long> missing = new HashSet<>(userIds);
+        missing.removeAll(cached.keySet());
+        if (!missing.isEmpty()) {
+            Set<Long> found = delegate.findExistingUsers(missing);
+            missing.forEach(id -> cache.put(id, CompletableFuture.completedFuture(found.contains(id))));
+            existing.addAll(found);
+        }
+        return existing;
+    }
+
+    private static final class ByResultExpiry implements Expiry<Long, Boolean> {
+
+        private final long positiveTtlNanos;
+        private final long negativeTtlNanos;
+
+        private ByResultExpiry(Duration positiveTtl, Duration negativeTtl) {
+            this.positiveTtlNanos = positiveTtl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long key, Boolean exists, long currentTime) {
+            return exists ? positiveTtlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Boolean exists, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, exists, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Boolean exists, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
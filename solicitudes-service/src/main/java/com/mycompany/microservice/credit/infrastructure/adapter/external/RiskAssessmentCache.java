@@ -0,0 +1,90 @@
+package com.mycompany.microservice.credit.infrastructure.adapter.external;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.mycompany.microservice.credit.domain.model.RiskAssessment;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Bureau assessments by applicant document, kept for {@code risk.cache.ttl}
+ * after the bureau produced them (an assessment reused from another
+ * application keeps only what is left of its TTL), at most
+ * {@code risk.cache.max-size} of them.
+ */
+@Component
+public class RiskAssessmentCache {
+
+    private final Duration ttl;
+    private final Cache<String, RiskAssessment> cache;
+
+    public RiskAssessmentCache(MeterRegistry meterRegistry,
+            @Value("${risk.cache.max-size:100000}") long maxSize,
+            @Value("${risk.cache.ttl:12h}") Duration ttl) {
+        this.ttl = ttl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new SinceEvaluationExpiry(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "risk.assessments");
+    }
+
+    public Duration ttl() {
+        return ttl;
+    }
+
+    /**
+     * Cached assessment for the document, or null if absent or expired.
+     */
+    public RiskAssessment get(String document) {
+        return cache.getIfPresent(document);
+    }
+
+    /**
+     * Cache the assessment until {@code ttl} after its evaluation time; an
+     * assessment that is already older than that is ignored.
+     */
+    public void put(String document, RiskAssessment assessment) {
+        if (SinceEvaluationExpiry.remainingNanos(assessment, ttl.toNanos()) > 0) {
+            cache.put(document, assessment);
+        }
+    }
+
+    private static final class SinceEvaluationExpiry implements Expiry<String, RiskAssessment> {
+
+        private final long ttlNanos;
+
+        private SinceEvaluationExpiry(Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+        }
+
+        static long remainingNanos(RiskAssessment assessment, long ttlNanos) {
+            long age = Duration.between(assessment.evaluatedAt(), LocalDateTime.now()).toNanos();
+            return ttlNanos - Math.max(0, age);
+        }
+
+        @Override
+        public long expireAfterCreate(String document, RiskAssessment assessment, long currentTime) {
+            return Math.max(0, remainingNanos(assessment, ttlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String document, RiskAssessment assessment, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(document, assessment, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String document, RiskAssessment assessment, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.mycompany.microservice.credit.infrastructure.adapter.external;
+
+import com.mycompany.microservice.credit.domain.model.RiskAssessment;
+import com.mycompany.microservice.credit.domain.model.RiskLevel;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Client for the credit bureau (risk-central-mock-service), resolved through Eureka.
+ */
+@Component
+public class RiskCentralAdapter {
+
+    private final WebClient webClient;
+
+    public RiskCentralAdapter(WebClient.Builder webClientBuilder) {
+        // clone() keeps the load-balancer filter without touching the shared builder's base URL
+        this.webClient = webClientBuilder.clone().baseUrl("lb://RISK-CENTRAL-MOCK-SERVICE").build();
+    }
+
+    /**
+     * Evaluate the applicant identified by the given document.
+     */
+    public Mono<RiskAssessment> evaluate(String document, BigDecimal amount, Integer termMonths) {
+        return webClient.post()
+                .uri("/risk-evaluation")
+                .bodyValue(new RiskEvaluationRequest(document, amount, termMonths))
+                .retrieve()
+                .bodyToMono(RiskEvaluationResponse.class)
+                .switchIfEmpty(Mono.error(new IllegalStateException("Empty response from risk central")))
+                .map(response -> new RiskAssessment(
+                        response.score(),
+                        RiskLevel.valueOf(response.nivelRiesgo()),
+                        response.detalle(),
+                        LocalDateTime.now()));
+    }
+
+    record RiskEvaluationRequest(String documento, BigDecimal monto, Integer plazo) {
+    }
+
+    record RiskEvaluationResponse(String documento, Integer score, String nivelRiesgo, String detalle) {
+    }
+}
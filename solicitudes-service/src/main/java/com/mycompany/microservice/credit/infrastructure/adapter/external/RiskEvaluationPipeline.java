@@ -0,0 +1,273 @@
+package com.mycompany.microservice.credit.infrastructure.adapter.external;
+
+import com.mycompany.microservice.credit.domain.model.CreditApplication;
+import com.mycompany.microservice.credit.domain.model.RiskAssessment;
+import com.mycompany.microservice.credit.domain.port.out.CreditApplicationRepository;
+import com.mycompany.microservice.credit.domain.port.out.RiskEvaluationPort;
+import com.mycompany.microservice.credit.infrastructure.config.ThreadingConfig;
+import com.mycompany.microservice.credit.infrastructure.controllers.exception.ExternalServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.retry.Retry;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Asynchronous risk evaluation of new applications.
+ * Applications are queued once their transaction commits; a Reactor pipeline
+ * drains the queue with at most {@code risk.evaluation.concurrency} evaluations
+ * in flight (auth-service for the document, then risk-central), each remote call
+ * with its own timeout and retries on transient failures. Results are written
+ * back on the blocking scheduler (see {@link ThreadingConfig}). When the queue is full, or all attempts
+ * fail, the application simply stays without an assessment.
+ * The bureau score depends only on the applicant, so recent assessments are
+ * reused: from the {@link RiskAssessmentCache}, or else from another of the
+ * user's applications, before asking the bureau.
+ * Each evaluation is a {@code risk.evaluation} span in the trace of the request
+ * that created the application, with the remote calls and the write-back under it.
+ */
+@Component
+public class RiskEvaluationPipeline implements RiskEvaluationPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(RiskEvaluationPipeline.class);
+
+    private final UserAdapter userAdapter;
+    private final RiskCentralAdapter riskCentral;
+    private final RiskAssessmentCache cache;
+    private final CreditApplicationRepository repository;
+    private final Scheduler blockingScheduler;
+    private final Duration timeout;
+    private final Retry retry;
+
+    private final BlockingQueue<Job> queue;
+    private final Sinks.Many<Job> sink;
+    private final ReentrantLock emitLock = new ReentrantLock();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Disposable subscription;
+
+    private final Timer queueWait;
+    private final Timer succeeded;
+    private final Timer failed;
+    private final Counter rejected;
+    private final Counter fromCache;
+    private final Counter fromStored;
+    private final Counter fromBureau;
+    private final ObservationRegistry observationRegistry;
+
+    public RiskEvaluationPipeline(UserAdapter userAdapter,
+            RiskCentralAdapter riskCentral,
+            RiskAssessmentCache cache,
+            CreditApplicationRepository repository,
+            @Qualifier(ThreadingConfig.BLOCKING_SCHEDULER) Scheduler blockingScheduler,
+            MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry,
+            @Value("${risk.evaluation.concurrency:16}") int concurrency,
+            @Value("${risk.evaluation.queue-capacity:10000}") int queueCapacity,
+            @Value("${risk.evaluation.timeout:2s}") Duration timeout,
+            @Value("${risk.evaluation.max-retries:3}") int maxRetries,
+            @Value("${risk.evaluation.retry-backoff:200ms}") Duration retryBackoff) {
+        this.userAdapter = userAdapter;
+        this.riskCentral = riskCentral;
+        this.cache = cache;
+        this.repository = repository;
+        this.blockingScheduler = blockingScheduler;
+        this.timeout = timeout;
+        this.retry = Retry.backoff(maxRetries, retryBackoff).filter(RiskEvaluationPipeline::isTransient);
+
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.sink = Sinks.many().unicast().onBackpressureBuffer(queue);
+
+        Gauge.builder("risk.evaluation.queue.depth", queue, BlockingQueue::size)
+                .description("Applications waiting for a risk evaluation slot")
+                .register(meterRegistry);
+        Gauge.builder("risk.evaluation.in.flight", inFlight, AtomicInteger::get)
+                .description("Risk evaluations currently running")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("risk.evaluation.queue.wait")
+                .description("Time from commit until the evaluation starts")
+                .register(meterRegistry);
+        this.succeeded = Timer.builder("risk.evaluation.duration")
+                .description("Evaluation time, remote calls and write-back included")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failed = Timer.builder("risk.evaluation.duration")
+                .description("Evaluation time, remote calls and write-back included")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("risk.evaluation.rejected")
+                .description("Applications not evaluated because the queue was full")
+                .register(meterRegistry);
+        this.fromCache = sourceCounter(meterRegistry, "cache");
+        this.fromStored = sourceCounter(meterRegistry, "stored");
+        this.fromBureau = sourceCounter(meterRegistry, "bureau");
+        this.observationRegistry = observationRegistry;
+
+        // flatMap only requests `concurrency` jobs at a time; the rest wait in the queue.
+        // evaluate() never signals an error; the unicast sink cannot be subscribed again, so an
+        // error reaching here would stop every later evaluation
+        this.subscription = sink.asFlux()
+                .flatMap(this::evaluate, concurrency)
+                .subscribe(null, e -> logger.error(
+                        "Risk evaluation pipeline terminated; new applications will not be evaluated", e));
+    }
+
+    @Override
+    public void requestEvaluation(CreditApplication application) {
+        Long id = application.getId();
+        Long userId = application.getUserId();
+        BigDecimal amount = application.getAmount();
+        Integer termMonths = application.getTermMonths();
+        Observation requestObservation = observationRegistry.getCurrentObservation();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(new Job(id, userId, amount, termMonths, System.nanoTime(), requestObservation));
+            return;
+        }
+        // The worker reads and updates the row, so hand it over only once it is committed
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(new Job(id, userId, amount, termMonths, System.nanoTime(), requestObservation));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscription.dispose();
+    }
+
+    private void enqueue(Job job) {
+        Sinks.EmitResult result;
+        // Sinks reject concurrent emissions instead of waiting; request threads take turns here.
+        // Not a monitor: emitting may start an evaluation, which can park (and would pin a virtual thread)
+        emitLock.lock();
+        try {
+            result = sink.tryEmitNext(job);
+        } finally {
+            emitLock.unlock();
+        }
+        if (result.isFailure()) {
+            rejected.increment();
+            logger.warn("Risk evaluation of application {} not queued: {}", job.applicationId(), result);
+        }
+    }
+
+    /**
+     * One evaluation, completing empty whatever happens: an error here would
+     * cancel the pipeline's only subscription. Deferred, so a failure while
+     * setting it up (metrics, observation, assembling the calls) is caught too.
+     */
+    private Mono<Void> evaluate(Job job) {
+        return Mono.defer(() -> run(job))
+                .onErrorResume(e -> {
+                    logger.error("Risk evaluation of application {} could not start", job.applicationId(), e);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> run(Job job) {
+        long startedAt = System.nanoTime();
+        queueWait.record(startedAt - job.enqueuedAt(), TimeUnit.NANOSECONDS);
+        Observation observation = Observation.createNotStarted("risk.evaluation", observationRegistry)
+                .parentObservation(job.requestObservation())
+                .highCardinalityKeyValue("application.id", String.valueOf(job.applicationId()))
+                .start();
+        // Last, so every increment is matched by the decrement below
+        inFlight.incrementAndGet();
+
+        return Mono.defer(() -> withRetries(userAdapter.findDocument(job.userId())))
+                .flatMap(document -> assess(job, document))
+                // JDBC write: keep it off the Netty event loop
+                .publishOn(blockingScheduler)
+                .doOnNext(assessment -> {
+                    if (!repository.saveRiskAssessment(job.applicationId(), assessment)) {
+                        logger.debug("Application {} was deleted before its risk evaluation completed",
+                                job.applicationId());
+                    }
+                })
+                .doOnSuccess(assessment -> succeeded.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS))
+                .then()
+                .onErrorResume(e -> {
+                    observation.error(e);
+                    failed.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    logger.warn("Risk evaluation of application {} failed: {}", job.applicationId(), e.toString());
+                    return Mono.empty();
+                })
+                // Before the completion reaches flatMap, so the gauge never shows more than `concurrency`
+                .doOnTerminate(inFlight::decrementAndGet)
+                .doFinally(signal -> observation.stop())
+                .contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, observation));
+    }
+
+    /**
+     * Cached assessment of the document, else the latest one stored on the
+     * user's applications within the cache TTL, else a new bureau evaluation.
+     */
+    private Mono<RiskAssessment> assess(Job job, String document) {
+        RiskAssessment cached = cache.get(document);
+        if (cached != null) {
+            fromCache.increment();
+            return Mono.just(cached);
+        }
+        Mono<RiskAssessment> stored = Mono.fromCallable(() -> repository.findLatestRiskAssessment(
+                        job.userId(), LocalDateTime.now().minus(cache.ttl())))
+                .subscribeOn(blockingScheduler)
+                .flatMap(Mono::justOrEmpty)
+                .doOnNext(assessment -> fromStored.increment());
+        Mono<RiskAssessment> evaluated = withRetries(riskCentral.evaluate(document, job.amount(), job.termMonths()))
+                .doOnNext(assessment -> fromBureau.increment());
+        return stored
+                .switchIfEmpty(evaluated)
+                .doOnNext(assessment -> cache.put(document, assessment));
+    }
+
+    private static Counter sourceCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("risk.evaluation.source")
+                .description("Completed assessments by where they came from")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private <T> Mono<T> withRetries(Mono<T> call) {
+        return call.timeout(timeout).retryWhen(retry);
+    }
+
+    private static boolean isTransient(Throwable e) {
+        return e instanceof TimeoutException
+                || e instanceof ExternalServiceUnavailableException
+                || e instanceof WebClientRequestException
+                || (e instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError());
+    }
+
+    private record Job(Long applicationId, Long userId, BigDecimal amount, Integer termMonths, long enqueuedAt,
+            Observation requestObservation) {
+    }
+}
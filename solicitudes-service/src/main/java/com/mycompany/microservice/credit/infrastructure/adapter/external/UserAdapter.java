@@ -1,32 +1,362 @@
 package com.mycompany.microservice.credit.infrastructure.adapter.external;
 
+import com.mycompany.microservice.credit.infrastructure.config.LoadBalancerCancellationFilter;
+import com.mycompany.microservice.credit.infrastructure.controllers.exception.ExternalServiceUnavailableException;
+import com.mycompany.microservice.credit.infrastructure.security.jwt.ServiceTokenProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import com.mycompany.microservice.credit.domain.port.out.UserPort;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Remote UserPort backed by auth-service.
+ * Concurrent lookups are coalesced: calls arriving within a small time window
+ * (or until the batch is full) are sent as one POST /api/auth/users/exists.
+ *
+ * <p>Every call to auth-service is bounded: it fails with
+ * {@link ExternalServiceUnavailableException} after {@code auth.client.timeout},
+ * or at once when {@code auth.client.max-concurrent-calls} are already in flight
+ * (bulkhead). With hedging enabled, a call still unanswered after the recent p95
+ * latency is sent a second time (the load balancer favours the less loaded
+ * instance) and the first success wins. The load balancer hears of the losing
+ * attempt through {@link LoadBalancerCancellationFilter}: a cancellation, not
+ * a failure; attempts still running at the deadline are failures.
+ *
+ * <p>Each lookup is an {@code auth.user.lookup} span in its caller's trace. A
+ * batch serves callers from many traces but is one HTTP call, so its client span
+ * (and auth-service's side of it) joins the trace of the batch's first lookup;
+ * every lookup span records the size of the batch it went out in.
+ *
+ * <p>The {@code /api/auth/users/**} endpoints are internal: every call carries
+ * this service's token from {@link ServiceTokenProvider}.
+ */
 @Component
 public class UserAdapter implements UserPort {
 
+    private static final Logger logger = LoggerFactory.getLogger(UserAdapter.class);
+
+    // auth-service accepts at most this many ids per /users/exists call
+    private static final int MAX_IDS_PER_REQUEST = 1000;
+
+    private static final String SERVICE = "auth-service";
+
     private final WebClient webClient;
+    private final int maxBatchSize;
+    private final long batchWindowNanos;
+    private final BlockingQueue<PendingLookup> queue = new LinkedBlockingQueue<>();
+    private final Thread dispatcher;
+
+    private final Duration timeout;
+    private final Semaphore bulkhead;
+    private final boolean hedging;
+    private final Duration minHedgeDelay;
+    private volatile Duration hedgeDelay;
+    private final Disposable hedgeDelayRefresh;
+    private final Timer latency;
+    private final Counter hedged;
+    private final Counter rejected;
+    private final ObservationRegistry observationRegistry;
+
+    public UserAdapter(WebClient.Builder webClientBuilder,
+            ServiceTokenProvider serviceTokenProvider,
+            LoadBalancerCancellationFilter cancellationFilter,
+            MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry,
+            @Value("${auth.user-batch.max-size:100}") int maxBatchSize,
+            @Value("${auth.user-batch.window:2ms}") Duration batchWindow,
+            @Value("${auth.client.timeout:1s}") Duration timeout,
+            @Value("${auth.client.max-concurrent-calls:64}") int maxConcurrentCalls,
+            @Value("${auth.client.hedge.enabled:true}") boolean hedging,
+            @Value("${auth.client.hedge.min-delay:20ms}") Duration minHedgeDelay) {
+        // The builder bean is shared with the risk client: keep the token filter off it
+        this.webClient = webClientBuilder.clone().baseUrl("lb://AUTH-SERVICE")
+                // Per request, so a renewed token is picked up (hedges and retries included)
+                .filter((request, next) -> next.exchange(ClientRequest.from(request)
+                        .headers(headers -> headers.setBearerAuth(serviceTokenProvider.token()))
+                        .build()))
+                // Outside the load balancer filter, so attempts are tagged before an instance is chosen
+                .filters(filters -> filters.add(0, cancellationFilter))
+                .build();
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindowNanos = batchWindow.toNanos();
+        this.timeout = timeout;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.hedging = hedging;
+        this.minHedgeDelay = minHedgeDelay;
+        this.hedgeDelay = minHedgeDelay;
+        this.observationRegistry = observationRegistry;
+
+        this.latency = Timer.builder("auth.client.latency")
+                .description("Successful auth-service calls; its p95 is the hedging delay")
+                .publishPercentiles(0.95)
+                .register(meterRegistry);
+        this.hedged = Counter.builder("auth.client.hedged")
+                .description("Calls sent a second time because the first was slower than p95")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.client.rejected")
+                .description("Calls refused because the concurrency limit was reached")
+                .register(meterRegistry);
+        Gauge.builder("auth.client.in.flight", bulkhead, b -> maxConcurrentCalls - b.availablePermits())
+                .description("auth-service calls in flight, hedges included")
+                .register(meterRegistry);
 
-    public UserAdapter(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl("lb://AUTH-SERVICE").build();
+        // A percentile snapshot locks the histogram and may sleep inside that lock, which
+        // would pin a virtual thread's carrier: take it off the request path
+        this.hedgeDelayRefresh = Schedulers.parallel()
+                .schedulePeriodically(this::refreshHedgeDelay, 1, 1, TimeUnit.SECONDS);
+
+        this.dispatcher = new Thread(this::dispatchLoop, "user-lookup-batcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
     }
 
     @Override
     public boolean userExists(Long userId) {
         try {
-            return Boolean.TRUE.equals(webClient.get()
-                    .uri("/api/auth/users/{id}", userId)
-                    .retrieve()
-                    .toBodilessEntity()
-                    .map(response -> response.getStatusCode().is2xxSuccessful())
-                    .onErrorReturn(false)
-                    .block());
-        } catch (Exception e) {
-            return false;
+            return lookup(userId).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ExternalServiceUnavailableException.failed(SERVICE, e);
+        } catch (ExecutionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    /**
+     * Queue the id for the next batch without waiting for it. The future fails
+     * with the translated error (always a RuntimeException): transport failures
+     * are not an answer, so the caller (and the cache) must see them.
+     */
+    public CompletableFuture<Boolean> lookup(Long userId) {
+        // Child of the caller's current observation, if any
+        Observation observation = Observation.start("auth.user.lookup", observationRegistry);
+        PendingLookup lookup = new PendingLookup(userId, new CompletableFuture<>(), observation);
+        queue.add(lookup);
+        // The remote call has its own deadline; this one also covers the batching window
+        return lookup.result()
+                .orTimeout(timeout.toNanos() + batchWindowNanos, TimeUnit.NANOSECONDS)
+                .handle((exists, error) -> {
+                    if (error == null) {
+                        observation.stop();
+                        return exists;
+                    }
+                    Throwable cause = translate(error instanceof CompletionException ? error.getCause() : error);
+                    observation.error(cause);
+                    observation.stop();
+                    throw cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+                });
+    }
+
+    @Override
+    public Set<Long> findExistingUsers(Set<Long> userIds) {
+        // Callers already hold a whole batch, so skip the coalescing queue
+        Set<Long> existing = new HashSet<>();
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_REQUEST) {
+            Set<Long> chunk = new HashSet<>(ids.subList(from, Math.min(from + MAX_IDS_PER_REQUEST, ids.size())));
+            UserExistenceResponse response = call(() -> existsRequest(chunk)).block();
+            existing.addAll(response.existingIds());
+        }
+        return existing;
+    }
+
+    /**
+     * Document of the given user, used to query the credit bureau.
+     * Not part of {@link UserPort}: only the asynchronous risk pipeline needs it.
+     */
+    public Mono<String> findDocument(Long userId) {
+        return call(() -> webClient.get()
+                .uri("/api/auth/users/{id}/profile", userId)
+                .retrieve()
+                .bodyToMono(UserProfileResponse.class))
+                .mapNotNull(UserProfileResponse::document)
+                .switchIfEmpty(Mono.error(new IllegalStateException("No document for user " + userId)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hedgeDelayRefresh.dispose();
+        dispatcher.interrupt();
+    }
+
+    private void dispatchLoop() {
+        List<PendingLookup> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + batchWindowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingLookup next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                send(List.copyOf(batch));
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        ExternalServiceUnavailableException stopped = new ExternalServiceUnavailableException("User lookup batcher stopped");
+        batch.forEach(lookup -> lookup.result().completeExceptionally(stopped));
+        queue.forEach(lookup -> lookup.result().completeExceptionally(stopped));
+    }
+
+    private void send(List<PendingLookup> pending) {
+        // Callers that already timed out need no answer; under overload that is most of the queue
+        List<PendingLookup> batch = pending.stream().filter(lookup -> !lookup.result().isDone()).toList();
+        if (batch.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>();
+        String batchSize = String.valueOf(batch.size());
+        batch.forEach(lookup -> {
+            ids.add(lookup.userId());
+            lookup.observation().highCardinalityKeyValue("batch.size", batchSize);
+        });
+
+        call(() -> existsRequest(ids))
+                .contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, batch.get(0).observation()))
+                .subscribe(
+                        response -> batch.forEach(lookup -> lookup.result()
+                                .complete(response.existingIds().contains(lookup.userId()))),
+                        error -> {
+                            logger.warn("Batch user lookup for {} ids failed: {}", ids.size(), error.toString());
+                            batch.forEach(lookup -> lookup.result().completeExceptionally(error));
+                        });
+    }
+
+    private Mono<UserExistenceResponse> existsRequest(Set<Long> ids) {
+        return webClient.post()
+                .uri("/api/auth/users/exists")
+                .bodyValue(new UserExistenceRequest(ids))
+                .retrieve()
+                .bodyToMono(UserExistenceResponse.class)
+                .switchIfEmpty(Mono.error(new IllegalStateException("Empty response from Auth Service")));
+    }
+
+    /**
+     * Bulkhead, optional hedge and deadline around one logical call. Each
+     * attempt holds a permit until it completes or is cancelled; a hedge that
+     * finds no free permit is simply not sent. A 4xx answer is final: it
+     * cancels the hedge and reaches the caller unchanged.
+     * Deferred, so every subscription (a caller's retry included) takes its own permit.
+     */
+    private <T> Mono<T> call(Supplier<Mono<T>> request) {
+        return Mono.defer(() -> {
+            if (!bulkhead.tryAcquire()) {
+                rejected.increment();
+                return Mono.<T>error(ExternalServiceUnavailableException.saturated(SERVICE));
+            }
+            AtomicBoolean answered = new AtomicBoolean();
+            Mono<T> attempt = timed(request.get())
+                    .doOnError(e -> answered.compareAndSet(false, isClientError(e)))
+                    .doFinally(signal -> bulkhead.release());
+            if (hedging) {
+                Mono<T> hedge = Mono.delay(hedgeDelay).flatMap(tick -> {
+                    if (answered.get() || !bulkhead.tryAcquire()) {
+                        return Mono.<T>empty();
+                    }
+                    hedged.increment();
+                    return timed(request.get()).doFinally(signal -> bulkhead.release());
+                });
+                attempt = Mono.firstWithValue(attempt, hedge);
+            }
+            AtomicBoolean deadlineExceeded = new AtomicBoolean();
+            return attempt
+                    // Set before the timeout cancels the attempts, so they are reported as failures
+                    .timeout(Mono.delay(timeout).doOnNext(tick -> deadlineExceeded.set(true)))
+                    .onErrorMap(this::translate)
+                    .contextWrite(context -> context.put(LoadBalancerCancellationFilter.DEADLINE_EXCEEDED,
+                            deadlineExceeded));
+        });
+    }
+
+    private <T> Mono<T> timed(Mono<T> request) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return request.doOnSuccess(value -> latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private void refreshHedgeDelay() {
+        Duration delay = minHedgeDelay;
+        for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+            long p95 = (long) percentile.value(TimeUnit.NANOSECONDS);
+            if (p95 > minHedgeDelay.toNanos()) {
+                delay = Duration.ofNanos(p95);
+            }
+        }
+        hedgeDelay = delay;
+    }
+
+    private Throwable translate(Throwable e) {
+        // firstWithValue reports the failure of every attempt; the first one is representative
+        if (e instanceof NoSuchElementException && e.getSuppressed().length > 0) {
+            e = e.getSuppressed()[0];
+        }
+        if (e instanceof ExternalServiceUnavailableException || isClientError(e)) {
+            return e;
+        }
+        if (e instanceof TimeoutException) {
+            return ExternalServiceUnavailableException.timedOut(SERVICE, timeout);
+        }
+        return ExternalServiceUnavailableException.failed(SERVICE, e);
+    }
+
+    private static boolean isClientError(Throwable e) {
+        return e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError();
+    }
+
+    private record PendingLookup(Long userId, CompletableFuture<Boolean> result, Observation observation) {
+    }
+
+    record UserExistenceRequest(Set<Long> ids) {
+    }
+
+    record UserProfileResponse(Long id, String document, String name, String email) {
+    }
+
+    record UserExistenceResponse(Set<Long> existingIds) {
+        UserExistenceResponse {
+            existingIds = existingIds != null ? existingIds : Set.of();
         }
     }
 }
@@ -0,0 +1,59 @@
+package com.mycompany.microservice.credit.infrastructure.config;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactiveLoadBalancer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reports lb:// requests the caller stopped waiting for to the service's
+ * {@link PeakEwmaLoadBalancer}. The load balancer exchange filter only signals
+ * completions, so without this a cancelled request would stay outstanding until
+ * written off as a failure.
+ *
+ * <p>Must run before (outside) that filter: it tags each attempt with
+ * {@link PeakEwmaLoadBalancer#ATTEMPT_ATTRIBUTE} before an instance is chosen.
+ * A cancellation is deliberate (e.g. a hedge that lost) unless the caller put an
+ * {@code AtomicBoolean} under {@link #DEADLINE_EXCEEDED} in the subscriber
+ * context and set it before cancelling.
+ */
+public class LoadBalancerCancellationFilter implements ExchangeFilterFunction {
+
+    /**
+     * Subscriber context key of an {@code AtomicBoolean} the caller sets when it
+     * cancels because its deadline passed.
+     */
+    public static final String DEADLINE_EXCEEDED = LoadBalancerCancellationFilter.class.getName() + ".deadlineExceeded";
+
+    private final ReactiveLoadBalancer.Factory<ServiceInstance> loadBalancers;
+
+    public LoadBalancerCancellationFilter(ReactiveLoadBalancer.Factory<ServiceInstance> loadBalancers) {
+        this.loadBalancers = loadBalancers;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(context -> {
+            Object attempt = new Object();
+            AtomicBoolean deadlineExceeded = context.getOrDefault(DEADLINE_EXCEEDED, null);
+            return next.exchange(ClientRequest.from(request)
+                            .attribute(PeakEwmaLoadBalancer.ATTEMPT_ATTRIBUTE, attempt)
+                            .build())
+                    .doOnCancel(() -> {
+                        // Same lookup as the load balancer filter: the service id is the lb:// host
+                        if (loadBalancers.getInstance(request.url().getHost()) instanceof PeakEwmaLoadBalancer balancer) {
+                            if (deadlineExceeded != null && deadlineExceeded.get()) {
+                                balancer.onDeadlineExceeded(attempt);
+                            } else {
+                                balancer.onCancel(attempt);
+                            }
+                        }
+                    });
+        });
+    }
+}
@@ -0,0 +1,346 @@
+package com.mycompany.microservice.credit.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Power-of-two-choices load balancer weighted by peak EWMA latency.
+ *
+ * <p>Each pick compares two random instances and takes the one with the lower
+ * cost, {@code latency EWMA x (outstanding requests + 1)}. The EWMA jumps to any
+ * slower observation at once and decays back over {@code decay}, so an instance
+ * in a GC pause loses traffic after a single slow response instead of keeping
+ * its round-robin share. As its own {@link LoadBalancerLifecycle}, the balancer
+ * sees every request start and complete.
+ *
+ * <p>An instance that fails {@code failureThreshold} times in a row (errors or
+ * 5xx) is ejected for {@code ejectionTime}, doubled on each repeated ejection.
+ * If ejections would leave fewer than half of the instances, all of them are
+ * considered again: spreading load beats piling it onto the few left.
+ * Requests the caller stops waiting for never complete here. Tagged with
+ * {@link #ATTEMPT_ATTRIBUTE}, they can be reported: {@link #onCancel} for a
+ * deliberate cancellation (a hedge that lost), which only stops counting the
+ * request as outstanding, and {@link #onDeadlineExceeded} for one that hung
+ * until the caller's deadline, a failure that took that long. Requests nobody
+ * reports are written off as failures once older than {@code abandonAfter}.
+ *
+ * <p>Each pick is a {@code loadbalancer.choose} observation, a span under the
+ * calling HTTP client's, so a trace shows registry lookup time and the chosen
+ * instance.
+ */
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PeakEwmaLoadBalancer.class);
+
+    /**
+     * Client request attribute holding an object unique to one attempt, the
+     * handle for {@link #onCancel} and {@link #onDeadlineExceeded}.
+     */
+    public static final String ATTEMPT_ATTRIBUTE = PeakEwmaLoadBalancer.class.getName() + ".attempt";
+
+    // Ejection time doubles per repeated ejection, at most this many times
+    private static final int MAX_EJECTION_DOUBLINGS = 3;
+
+    private final String serviceId;
+    private final ObjectProvider<ServiceInstanceListSupplier> suppliers;
+    private final Settings settings;
+    private final Counter ejections;
+    private final ObservationRegistry observationRegistry;
+    private final LongSupplier nanoClock;
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    public PeakEwmaLoadBalancer(String serviceId, ObjectProvider<ServiceInstanceListSupplier> suppliers,
+            Settings settings, MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        this(serviceId, suppliers, settings, meterRegistry, observationRegistry, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock source of {@link System#nanoTime()}-like readings, replaced in tests
+     */
+    PeakEwmaLoadBalancer(String serviceId, ObjectProvider<ServiceInstanceListSupplier> suppliers,
+            Settings settings, MeterRegistry meterRegistry, ObservationRegistry observationRegistry,
+            LongSupplier nanoClock) {
+        this.serviceId = serviceId;
+        this.nanoClock = nanoClock;
+        this.suppliers = suppliers;
+        this.settings = settings;
+        this.ejections = Counter.builder("loadbalancer.ejections")
+                .description("Instances taken out of rotation after consecutive failures")
+                .tag("serviceId", serviceId)
+                .register(meterRegistry);
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = suppliers.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return Mono.deferContextual(context -> {
+            Observation observation = Observation.createNotStarted("loadbalancer.choose", observationRegistry)
+                    .lowCardinalityKeyValue("serviceId", serviceId)
+                    .parentObservation(context.getOrDefault(ObservationThreadLocalAccessor.KEY, null))
+                    .start();
+            return supplier.get(request).next().map(this::choose)
+                    .doOnNext(response -> observation.highCardinalityKeyValue("instance", response.hasServer()
+                            ? response.getServer().getHost() + ":" + response.getServer().getPort() : "none"))
+                    .doOnError(observation::error)
+                    .doFinally(signal -> observation.stop());
+        });
+    }
+
+    private Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            logger.warn("No instances available for {}", serviceId);
+            return new EmptyResponse();
+        }
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+
+        long now = nanoClock.getAsLong();
+        List<ServiceInstance> candidates = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            if (!stats(instance).isEjected(now)) {
+                candidates.add(instance);
+            }
+        }
+        if (candidates.size() * 2 < instances.size()) {
+            candidates = instances;
+        }
+        if (candidates.size() == 1) {
+            return new DefaultResponse(candidates.get(0));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return new DefaultResponse(stats(a).cost(now) <= stats(b).cost(now) ? a : b);
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse.hasServer()) {
+            RequestData clientRequest = request.getContext().getClientRequest();
+            Object attempt = clientRequest != null && clientRequest.getAttributes() != null
+                    ? clientRequest.getAttributes().get(ATTEMPT_ATTRIBUTE) : null;
+            stats(lbResponse.getServer()).start(request.getContext(), attempt, nanoClock.getAsLong());
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completion) {
+        Response<ServiceInstance> lbResponse = completion.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        ResponseData response = completion.getClientResponse();
+        boolean failed = completion.status() == CompletionContext.Status.FAILED
+                || (response != null && response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError());
+        stats(lbResponse.getServer()).complete(completion.getLoadBalancerRequest().getContext(), nanoClock.getAsLong(), failed);
+    }
+
+    /**
+     * The caller cancelled the attempt on purpose, e.g. a hedge that lost the race:
+     * it stops counting as outstanding, with no latency sample and no failure.
+     */
+    public void onCancel(Object attempt) {
+        abandon(attempt, false);
+    }
+
+    /**
+     * The caller stopped waiting for the attempt at its deadline: a failure that
+     * took as long as the caller waited.
+     */
+    public void onDeadlineExceeded(Object attempt) {
+        abandon(attempt, true);
+    }
+
+    private void abandon(Object attempt, boolean failed) {
+        long now = nanoClock.getAsLong();
+        for (InstanceStats instance : stats.values()) {
+            if (instance.abandon(attempt, now, failed)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Cost a pick would compare for the instance right now.
+     */
+    double cost(ServiceInstance instance) {
+        return stats(instance).cost(nanoClock.getAsLong());
+    }
+
+    private InstanceStats stats(ServiceInstance instance) {
+        return stats.computeIfAbsent(instance.getHost() + ":" + instance.getPort(), InstanceStats::new);
+    }
+
+    /**
+     * @param decay time for the latency EWMA to forget about 63% of an observation
+     * @param failureThreshold consecutive failures that eject an instance
+     * @param ejectionTime first ejection period
+     * @param abandonAfter age at which a request that never completed and was not reported is written off
+     */
+    public record Settings(Duration decay, int failureThreshold, Duration ejectionTime, Duration abandonAfter) {
+    }
+
+    private final class InstanceStats {
+
+        private final String address;
+        // Keyed by identity: request contexts of identical requests are equal()
+        private final Map<Object, InFlight> inFlight = new IdentityHashMap<>();
+        private double ewmaNanos;
+        private long lastObservation;
+        private boolean observed;
+        private int consecutiveFailures;
+        private int consecutiveEjections;
+        private long ejectedUntil;
+
+        private InstanceStats(String address) {
+            this.address = address;
+        }
+
+        synchronized void start(Object request, Object attempt, long now) {
+            inFlight.put(request, new InFlight(now, attempt));
+        }
+
+        synchronized void complete(Object request, long now, boolean failed) {
+            InFlight started = inFlight.remove(request);
+            if (started != null) {
+                record(now - started.startedAt(), now, failed);
+            }
+        }
+
+        synchronized boolean abandon(Object attempt, long now, boolean failed) {
+            if (attempt == null) {
+                return false;
+            }
+            Iterator<InFlight> requests = inFlight.values().iterator();
+            while (requests.hasNext()) {
+                InFlight request = requests.next();
+                if (request.attempt() == attempt) {
+                    requests.remove();
+                    if (failed) {
+                        record(now - request.startedAt(), now, true);
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized boolean isEjected(long now) {
+            return ejectedUntil - now > 0;
+        }
+
+        synchronized double cost(long now) {
+            abandonStale(now);
+            int outstanding = inFlight.size();
+            if (!observed) {
+                // Unknown latency: try it, but one request at a time
+                return outstanding == 0 ? 0 : Double.MAX_VALUE;
+            }
+            return decayed(now) * (outstanding + 1);
+        }
+
+        private void abandonStale(long now) {
+            long limit = settings.abandonAfter().toNanos();
+            Iterator<InFlight> requests = inFlight.values().iterator();
+            while (requests.hasNext()) {
+                long age = now - requests.next().startedAt();
+                if (age > limit) {
+                    requests.remove();
+                    record(age, now, true);
+                }
+            }
+        }
+
+        private void record(long latencyNanos, long now, boolean failed) {
+            // A fast failure must not make the instance look attractive
+            double sample = failed ? Math.max(latencyNanos, ewmaNanos) : latencyNanos;
+            if (!observed || sample > ewmaNanos) {
+                ewmaNanos = sample;
+            } else {
+                double w = weight(now);
+                ewmaNanos = ewmaNanos * w + sample * (1 - w);
+            }
+            lastObservation = now;
+            observed = true;
+
+            if (!failed) {
+                consecutiveFailures = 0;
+                consecutiveEjections = 0;
+                return;
+            }
+            if (++consecutiveFailures >= settings.failureThreshold() && !isEjected(now)) {
+                long period = settings.ejectionTime().toNanos()
+                        << Math.min(consecutiveEjections++, MAX_EJECTION_DOUBLINGS);
+                ejectedUntil = now + period;
+                // Back in rotation, one more failure ejects it again
+                consecutiveFailures = settings.failureThreshold() - 1;
+                ejections.increment();
+                logger.warn("Ejected {} instance {} for {} ms after {} consecutive failures", serviceId, address,
+                        period / 1_000_000, settings.failureThreshold());
+            }
+        }
+
+        // Idle time pulls the EWMA towards zero, so a slow instance is retried eventually
+        private double decayed(long now) {
+            return ewmaNanos * weight(now);
+        }
+
+        private double weight(long now) {
+            return Math.exp(-(double) (now - lastObservation) / settings.decay().toNanos());
+        }
+    }
+
+    private record InFlight(long startedAt, Object attempt) {
+    }
+}
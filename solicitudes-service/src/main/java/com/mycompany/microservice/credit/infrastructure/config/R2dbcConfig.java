@@ -0,0 +1,81 @@
+package com.mycompany.microservice.credit.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * R2DBC connection pool for the non-blocking request path (r2dbc profile).
+ * It reaches the same database as the JDBC datasource, which stays in place for
+ * Flyway, imports, exports and the risk pipeline.
+ *
+ * <p>Only the {@link DatabaseClient} is a bean: a ConnectionFactory bean would
+ * make Boot's DataSource auto-configuration back off, and the JDBC side is
+ * still needed. The pool is therefore closed here on shutdown.
+ */
+@Configuration
+@Profile(R2dbcConfig.PROFILE)
+public class R2dbcConfig {
+
+    public static final String PROFILE = "r2dbc";
+
+    private ConnectionPool pool;
+
+    @Bean
+    public DatabaseClient r2dbcDatabaseClient(DataSourceProperties dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${r2dbc.url:}") String url,
+            @Value("${r2dbc.pool.initial-size:10}") int initialSize,
+            @Value("${r2dbc.pool.max-size:20}") int maxSize,
+            @Value("${r2dbc.pool.max-acquire-time:5s}") Duration maxAcquireTime) {
+        // Same host and database as the JDBC URL unless given explicitly
+        String r2dbcUrl = url.isBlank() ? dataSource.getUrl().replaceFirst("^jdbc:", "r2dbc:") : url;
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(r2dbcUrl).mutate()
+                .option(ConnectionFactoryOptions.USER, dataSource.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, dataSource.getPassword())
+                .build();
+
+        pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("r2dbc")
+                .initialSize(Math.min(initialSize, maxSize))
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+
+        PoolMetrics metrics = pool.getMetrics().orElseThrow();
+        gauge(meterRegistry, "r2dbc.pool.acquired", "Connections in use", metrics, PoolMetrics::acquiredSize);
+        gauge(meterRegistry, "r2dbc.pool.idle", "Idle connections", metrics, PoolMetrics::idleSize);
+        gauge(meterRegistry, "r2dbc.pool.pending", "Requests waiting for a connection", metrics,
+                PoolMetrics::pendingAcquireSize);
+
+        return DatabaseClient.create(pool);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+
+    private static void gauge(MeterRegistry registry, String name, String description,
+            PoolMetrics metrics, ToDoubleFunction<PoolMetrics> value) {
+        Gauge.builder(name, metrics, value)
+                .description(description)
+                .register(registry);
+    }
+}
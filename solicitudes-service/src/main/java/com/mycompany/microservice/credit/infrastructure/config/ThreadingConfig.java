@@ -0,0 +1,37 @@
+package com.mycompany.microservice.credit.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Scheduler for blocking work started from Reactor pipelines (the JDBC calls of
+ * the risk evaluation). With {@code spring.threads.virtual.enabled} it is the
+ * application task executor, which then runs each task on a new virtual thread;
+ * otherwise Reactor's bounded-elastic pool.
+ */
+@Configuration
+public class ThreadingConfig {
+
+    public static final String BLOCKING_SCHEDULER = "blockingScheduler";
+
+    @Bean(BLOCKING_SCHEDULER)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Scheduler virtualThreadScheduler(
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor) {
+        return Schedulers.fromExecutor(executor);
+    }
+
+    @Bean(BLOCKING_SCHEDULER)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Scheduler boundedElasticScheduler() {
+        return Schedulers.boundedElastic();
+    }
+}
@@ -1,16 +1,41 @@
 package com.mycompany.microservice.credit.infrastructure.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
+
 @Configuration
+@LoadBalancerClients(defaultConfiguration = PeakEwmaLoadBalancerConfiguration.class)
 public class WebClientConfig {
 
     @Bean
     @LoadBalanced
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public WebClient.Builder webClientBuilder(ObjectProvider<WebClientCustomizer> customizers) {
+        WebClient.Builder builder = WebClient.builder();
+        // Boot's customizers register the http.client.requests observation
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder;
+    }
+
+    @Bean
+    public LoadBalancerCancellationFilter loadBalancerCancellationFilter(LoadBalancerClientFactory loadBalancers) {
+        return new LoadBalancerCancellationFilter(loadBalancers);
+    }
+
+    @Bean
+    public PeakEwmaLoadBalancer.Settings peakEwmaSettings(
+            @Value("${loadbalancer.peak-ewma.decay:10s}") Duration decay,
+            @Value("${loadbalancer.peak-ewma.failure-threshold:5}") int failureThreshold,
+            @Value("${loadbalancer.peak-ewma.ejection-time:30s}") Duration ejectionTime,
+            @Value("${loadbalancer.peak-ewma.abandon-after:10s}") Duration abandonAfter) {
+        return new PeakEwmaLoadBalancer.Settings(decay, failureThreshold, ejectionTime, abandonAfter);
     }
 }
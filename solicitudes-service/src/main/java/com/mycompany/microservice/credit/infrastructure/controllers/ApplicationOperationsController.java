@@ -0,0 +1,150 @@
+package com.mycompany.microservice.credit.infrastructure.controllers;
+
+import com.mycompany.microservice.credit.application.dto.ApplicationResponse;
+import com.mycompany.microservice.credit.application.dto.BulkStatusChangeRequest;
+import com.mycompany.microservice.credit.application.dto.BulkStatusChangeResponse;
+import com.mycompany.microservice.credit.application.dto.ImportReport;
+import com.mycompany.microservice.credit.application.dto.PageResponse;
+import com.mycompany.microservice.credit.application.service.ApplicationImportService;
+import com.mycompany.microservice.credit.application.service.CreditApplicationService;
+import com.mycompany.microservice.credit.domain.model.ApplicationSearchCriteria;
+import com.mycompany.microservice.credit.domain.model.ApplicationStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Credit application endpoints that always run on the blocking (JPA) stack,
+ * whichever persistence profile serves the CRUD endpoints: search, streamed
+ * export, bulk status changes, import (ANALISTA, ADMIN only) and health.
+ */
+@RestController
+@RequestMapping("/api/applications")
+public class ApplicationOperationsController {
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final CreditApplicationService service;
+    private final ApplicationImportService importService;
+    private final ObjectMapper objectMapper;
+
+    public ApplicationOperationsController(CreditApplicationService service,
+            ApplicationImportService importService, ObjectMapper objectMapper) {
+        this.service = service;
+        this.importService = importService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Search applications (ANALISTA, ADMIN only), newest first. All filters are optional.
+     * GET /api/applications/search?status=PENDIENTE&minAmount=1000&createdFrom=2024-01-01T00:00:00&size=20&cursor=...
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<ApplicationResponse>> search(
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "userId", required = false) Long userId,
+            @RequestParam(name = "minAmount", required = false) BigDecimal minAmount,
+            @RequestParam(name = "maxAmount", required = false) BigDecimal maxAmount,
+            @RequestParam(name = "termMonths", required = false) Integer termMonths,
+            @RequestParam(name = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(name = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "" + CreditApplicationService.DEFAULT_PAGE_SIZE) int size) {
+
+        ApplicationSearchCriteria criteria = new ApplicationSearchCriteria(
+                status != null ? ApplicationStatus.valueOf(status) : null,
+                userId, minAmount, maxAmount, termMonths, createdFrom, createdTo);
+
+        return ResponseEntity.ok(PageResponse.from(
+                service.search(criteria, cursor, size), ApplicationResponse::from));
+    }
+
+    /**
+     * Export all matching applications as newline-delimited JSON (ANALISTA, ADMIN only).
+     * Rows are streamed from the database and written one by one, so memory use
+     * does not depend on the number of applications.
+     * GET /api/applications/export?status=PENDIENTE&userId=1
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "userId", required = false) Long userId,
+            @RequestParam(name = "status", required = false) String status) {
+
+        // Validate before the response is committed, so bad filters still get a 400
+        ApplicationStatus statusFilter = status != null ? ApplicationStatus.valueOf(status) : null;
+        ObjectWriter writer = objectMapper.writerFor(ApplicationResponse.class);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                service.exportApplications(userId, statusFilter, application -> {
+                    try {
+                        writer.writeValue(generator, ApplicationResponse.from(application));
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Change the status of several applications in one transaction (ANALISTA, ADMIN only).
+     * POST /api/applications/status-changes
+     * Always 200; each item reports UPDATED, NOT_FOUND, CONFLICT or INVALID.
+     */
+    @PostMapping("/status-changes")
+    public ResponseEntity<BulkStatusChangeResponse> bulkUpdateStatus(
+            @Valid @RequestBody BulkStatusChangeRequest request) {
+
+        return ResponseEntity.ok(BulkStatusChangeResponse.from(
+                service.bulkUpdateStatus(request.items())));
+    }
+
+    /**
+     * Bulk import of applications (ANALISTA, ADMIN only).
+     * POST /api/applications/import with Content-Type application/x-ndjson or text/csv (header row required).
+     * Returns counts plus the first rejected rows with their line numbers.
+     */
+    @PostMapping(value = "/import", consumes = { "application/x-ndjson", "text/csv" })
+    public ResponseEntity<ImportReport> importApplications(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+
+        ApplicationImportService.Format format = contentType.isCompatibleWith(TEXT_CSV)
+                ? ApplicationImportService.Format.CSV
+                : ApplicationImportService.Format.NDJSON;
+        return ResponseEntity.ok(importService.importApplications(body, format));
+    }
+
+    /**
+     * Health check.
+     * GET /api/applications/health
+     */
+    @GetMapping("/health")
+    public ResponseEntity<String> health() {
+        return ResponseEntity.ok("Credit Application service is running");
+    }
+}
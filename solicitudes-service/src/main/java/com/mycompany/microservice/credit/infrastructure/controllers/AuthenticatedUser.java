@@ -0,0 +1,32 @@
+package com.mycompany.microservice.credit.infrastructure.controllers;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Map;
+
+/**
+ * Reads the caller's id and role from the JWT authentication, for the
+ * blocking and reactive application controllers alike.
+ */
+final class AuthenticatedUser {
+
+    private AuthenticatedUser() {
+    }
+
+    static Long userId(Authentication authentication) {
+        return (Long) details(authentication).get("userId");
+    }
+
+    static String role(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .findFirst()
+                .map(GrantedAuthority::getAuthority)
+                .orElse("ROLE_AFILIADO");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> details(Authentication authentication) {
+        return (Map<String, Object>) authentication.getPrincipal();
+    }
+}
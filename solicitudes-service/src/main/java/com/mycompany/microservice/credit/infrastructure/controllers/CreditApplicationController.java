@@ -2,19 +2,19 @@ package com.mycompany.microservice.credit.infrastructure.controllers;
 
 import com.mycompany.microservice.credit.application.dto.ApplicationResponse;
 import com.mycompany.microservice.credit.application.dto.CreateApplicationRequest;
+import com.mycompany.microservice.credit.application.dto.PageResponse;
 import com.mycompany.microservice.credit.application.dto.UpdateApplicationRequest;
 import com.mycompany.microservice.credit.application.service.CreditApplicationService;
 import com.mycompany.microservice.credit.domain.model.CreditApplication;
+import com.mycompany.microservice.credit.infrastructure.config.R2dbcConfig;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * REST Controller for Credit Application endpoints.
@@ -23,13 +23,17 @@ import java.util.stream.Collectors;
  * - AFILIADO: Create, view own, delete own pending applications
  * - ANALISTA: Full CRUD
  * - ADMIN: Full CRUD
+ *
+ * Blocking (JPA) variant of the CRUD endpoints; with the r2dbc profile
+ * {@link ReactiveCreditApplicationController} serves the same paths instead.
+ * Search, export, bulk operations and health live in {@link ApplicationOperationsController}.
  */
 @RestController
 @RequestMapping("/api/applications")
+@Profile("!" + R2dbcConfig.PROFILE)
 public class CreditApplicationController {
 
     private final CreditApplicationService service;
-    
 
     public CreditApplicationController(CreditApplicationService service) {
         this.service = service;
@@ -45,8 +49,7 @@ public class CreditApplicationController {
             
             Authentication authentication) {
 
-        Map<String, Object> userDetails = getUserDetails(authentication);
-        Long userId = (Long) userDetails.get("userId");
+        Long userId = AuthenticatedUser.userId(authentication);
 
         // For AFILIADO, use their own info. For others, could be on behalf of user
         CreditApplication created = service.create(
@@ -58,31 +61,31 @@ public class CreditApplicationController {
     }
 
     /**
-     * Get my applications (for AFILIADO).
-     * GET /api/applications/my
+     * Get my applications (for AFILIADO), newest first.
+     * GET /api/applications/my?size=20&cursor=...
      */
     @GetMapping("/my")
-    public ResponseEntity<List<ApplicationResponse>> getMyApplications(Authentication authentication) {
-        Long userId = getUserId(authentication);
-
-        List<ApplicationResponse> applications = service.getMyApplications(userId).stream()
-                .map(ApplicationResponse::from)
-                .collect(Collectors.toList());
+    public ResponseEntity<PageResponse<ApplicationResponse>> getMyApplications(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "" + CreditApplicationService.DEFAULT_PAGE_SIZE) int size,
+            Authentication authentication) {
+        Long userId = AuthenticatedUser.userId(authentication);
 
-        return ResponseEntity.ok(applications);
+        return ResponseEntity.ok(PageResponse.from(
+                service.getMyApplications(userId, cursor, size), ApplicationResponse::from));
     }
 
     /**
-     * Get all applications (ANALISTA, ADMIN only).
-     * GET /api/applications
+     * Get all applications (ANALISTA, ADMIN only), newest first.
+     * GET /api/applications?size=20&cursor=...
      */
     @GetMapping
-    public ResponseEntity<List<ApplicationResponse>> getAllApplications() {
-        List<ApplicationResponse> applications = service.getAllApplications().stream()
-                .map(ApplicationResponse::from)
-                .collect(Collectors.toList());
+    public ResponseEntity<PageResponse<ApplicationResponse>> getAllApplications(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "" + CreditApplicationService.DEFAULT_PAGE_SIZE) int size) {
 
-        return ResponseEntity.ok(applications);
+        return ResponseEntity.ok(PageResponse.from(
+                service.getAllApplications(cursor, size), ApplicationResponse::from));
     }
 
     /**
@@ -91,11 +94,11 @@ public class CreditApplicationController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<ApplicationResponse> getById(
-            @PathVariable Long id,
+            @PathVariable("id") Long id,
             Authentication authentication) {
 
-        Long userId = getUserId(authentication);
-        String role = getRole(authentication);
+        Long userId = AuthenticatedUser.userId(authentication);
+        String role = AuthenticatedUser.role(authentication);
 
         CreditApplication application = service.getById(id, userId, role);
         return ResponseEntity.ok(ApplicationResponse.from(application));
@@ -107,11 +110,11 @@ public class CreditApplicationController {
      */
     @PutMapping("/{id}")
     public ResponseEntity<ApplicationResponse> update(
-            @PathVariable Long id,
+            @PathVariable("id") Long id,
             @Valid @RequestBody UpdateApplicationRequest request) {
 
         CreditApplication updated = service.update(
-                id, request.analystNotes(), request.status());
+                id, request.analystNotes(), request.status(), request.version());
 
         return ResponseEntity.ok(ApplicationResponse.from(updated));
     }
@@ -119,14 +122,20 @@ public class CreditApplicationController {
     /**
      * Update status only (ADMIN only).
      * PATCH /api/applications/{id}/status
+     * Body: {"status": "APROBADA", "version": 3} (version optional)
      */
     @PatchMapping("/{id}/status")
     public ResponseEntity<ApplicationResponse> updateStatus(
-            @PathVariable Long id,
+            @PathVariable("id") Long id,
             @RequestBody Map<String, String> body) {
 
         String status = body.get("status");
-        CreditApplication updated = service.updateStatus(id, status);
+        if (status == null) {
+            throw new IllegalArgumentException("status is required");
+        }
+        String version = body.get("version");
+        CreditApplication updated = service.updateStatus(id, status,
+                version != null ? Long.valueOf(version) : null);
 
         return ResponseEntity.ok(ApplicationResponse.from(updated));
     }
@@ -137,39 +146,13 @@ public class CreditApplicationController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(
-            @PathVariable Long id,
+            @PathVariable("id") Long id,
             Authentication authentication) {
 
-        Long userId = getUserId(authentication);
-        String role = getRole(authentication);
+        Long userId = AuthenticatedUser.userId(authentication);
+        String role = AuthenticatedUser.role(authentication);
 
         service.delete(id, userId, role);
         return ResponseEntity.noContent().build();
     }
-
-    /**
-     * Health check.
-     * GET /api/applications/health
-     */
-    @GetMapping("/health")
-    public ResponseEntity<String> health() {
-        return ResponseEntity.ok("Credit Application service is running");
-    }
-
-    // Helper methods
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> getUserDetails(Authentication authentication) {
-        return (Map<String, Object>) authentication.getPrincipal();
-    }
-
-    private Long getUserId(Authentication authentication) {
-        return (Long) getUserDetails(authentication).get("userId");
-    }
-
-    private String getRole(Authentication authentication) {
-        return authentication.getAuthorities().stream()
-                .findFirst()
-                .map(GrantedAuthority::getAuthority)
-                .orElse("ROLE_AFILIADO");
-    }
 }
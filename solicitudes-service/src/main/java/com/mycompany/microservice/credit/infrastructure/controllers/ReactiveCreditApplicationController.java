@@ -0,0 +1,139 @@
+package com.mycompany.microservice.credit.infrastructure.controllers;
+
+import com.mycompany.microservice.credit.application.dto.ApplicationResponse;
+import com.mycompany.microservice.credit.application.dto.CreateApplicationRequest;
+import com.mycompany.microservice.credit.application.dto.PageResponse;
+import com.mycompany.microservice.credit.application.dto.UpdateApplicationRequest;
+import com.mycompany.microservice.credit.application.service.CreditApplicationService;
+import com.mycompany.microservice.credit.application.service.ReactiveCreditApplicationService;
+import com.mycompany.microservice.credit.infrastructure.config.R2dbcConfig;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Non-blocking variant of {@link CreditApplicationController} (r2dbc profile):
+ * same paths, bodies, access rules and errors.
+ *
+ * Handlers return a Mono, so Spring MVC releases the request thread as soon as
+ * the handler returns and writes the response when the Mono completes (servlet
+ * async). Authentication and validation still run on the request thread, before
+ * the handler.
+ */
+@RestController
+@RequestMapping("/api/applications")
+@Profile(R2dbcConfig.PROFILE)
+public class ReactiveCreditApplicationController {
+
+    private final ReactiveCreditApplicationService service;
+
+    public ReactiveCreditApplicationController(ReactiveCreditApplicationService service) {
+        this.service = service;
+    }
+
+    /**
+     * Create a new credit application.
+     * POST /api/applications
+     */
+    @PostMapping
+    public Mono<ResponseEntity<ApplicationResponse>> create(
+            @Valid @RequestBody CreateApplicationRequest request,
+            Authentication authentication) {
+
+        return service.create(AuthenticatedUser.userId(authentication),
+                        request.amount(), request.termMonths(), request.purpose())
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(ApplicationResponse.from(created)));
+    }
+
+    /**
+     * Get my applications (for AFILIADO), newest first.
+     * GET /api/applications/my?size=20&cursor=...
+     */
+    @GetMapping("/my")
+    public Mono<ResponseEntity<PageResponse<ApplicationResponse>>> getMyApplications(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "" + CreditApplicationService.DEFAULT_PAGE_SIZE) int size,
+            Authentication authentication) {
+
+        return service.getMyApplications(AuthenticatedUser.userId(authentication), cursor, size)
+                .map(page -> ResponseEntity.ok(PageResponse.from(page, ApplicationResponse::from)));
+    }
+
+    /**
+     * Get all applications (ANALISTA, ADMIN only), newest first.
+     * GET /api/applications?size=20&cursor=...
+     */
+    @GetMapping
+    public Mono<ResponseEntity<PageResponse<ApplicationResponse>>> getAllApplications(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "" + CreditApplicationService.DEFAULT_PAGE_SIZE) int size) {
+
+        return service.getAllApplications(cursor, size)
+                .map(page -> ResponseEntity.ok(PageResponse.from(page, ApplicationResponse::from)));
+    }
+
+    /**
+     * Get application by ID.
+     * GET /api/applications/{id}
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApplicationResponse>> getById(
+            @PathVariable("id") Long id,
+            Authentication authentication) {
+
+        return service.getById(id, AuthenticatedUser.userId(authentication), AuthenticatedUser.role(authentication))
+                .map(application -> ResponseEntity.ok(ApplicationResponse.from(application)));
+    }
+
+    /**
+     * Update application (ANALISTA, ADMIN only).
+     * PUT /api/applications/{id}
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ApplicationResponse>> update(
+            @PathVariable("id") Long id,
+            @Valid @RequestBody UpdateApplicationRequest request) {
+
+        return service.update(id, request.analystNotes(), request.status(), request.version())
+                .map(updated -> ResponseEntity.ok(ApplicationResponse.from(updated)));
+    }
+
+    /**
+     * Update status only (ADMIN only).
+     * PATCH /api/applications/{id}/status
+     * Body: {"status": "APROBADA", "version": 3} (version optional)
+     */
+    @PatchMapping("/{id}/status")
+    public Mono<ResponseEntity<ApplicationResponse>> updateStatus(
+            @PathVariable("id") Long id,
+            @RequestBody Map<String, String> body) {
+
+        String status = body.get("status");
+        if (status == null) {
+            throw new IllegalArgumentException("status is required");
+        }
+        String version = body.get("version");
+        return service.updateStatus(id, status, version != null ? Long.valueOf(version) : null)
+                .map(updated -> ResponseEntity.ok(ApplicationResponse.from(updated)));
+    }
+
+    /**
+     * Delete application.
+     * DELETE /api/applications/{id}
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(
+            @PathVariable("id") Long id,
+            Authentication authentication) {
+
+        return service.delete(id, AuthenticatedUser.userId(authentication), AuthenticatedUser.role(authentication))
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
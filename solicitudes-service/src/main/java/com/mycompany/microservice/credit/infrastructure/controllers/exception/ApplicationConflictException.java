@@ -0,0 +1,26 @@
+package com.mycompany.microservice.credit.infrastructure.controllers.exception;
+
+import com.mycompany.microservice.credit.domain.model.ApplicationStatus;
+
+/**
+ * Exception thrown when an update conflicts with the application's current state.
+ */
+public class ApplicationConflictException extends RuntimeException {
+
+    public ApplicationConflictException(String message) {
+        super(message);
+    }
+
+    public static ApplicationConflictException staleVersion(Long id, Long expected, Long actual) {
+        return new ApplicationConflictException("Credit application with id '" + id
+                + "' was modified concurrently (expected version " + expected + ", current version " + actual + ")");
+    }
+
+    public static ApplicationConflictException modifiedConcurrently(Long id) {
+        return new ApplicationConflictException("Credit application with id '" + id + "' was modified concurrently");
+    }
+
+    public static ApplicationConflictException invalidTransition(ApplicationStatus from, ApplicationStatus to) {
+        return new ApplicationConflictException("Cannot change status from " + from + " to " + to);
+    }
+}
@@ -0,0 +1,30 @@
+package com.mycompany.microservice.credit.infrastructure.controllers.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a downstream service cannot answer in time: it timed
+ * out, failed, or the calls to it are already at their concurrency limit.
+ */
+public class ExternalServiceUnavailableException extends RuntimeException {
+
+    public ExternalServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ExternalServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public static ExternalServiceUnavailableException timedOut(String service, Duration deadline) {
+        return new ExternalServiceUnavailableException(service + " did not answer within " + deadline.toMillis() + " ms");
+    }
+
+    public static ExternalServiceUnavailableException saturated(String service) {
+        return new ExternalServiceUnavailableException("Too many concurrent calls to " + service);
+    }
+
+    public static ExternalServiceUnavailableException failed(String service, Throwable cause) {
+        return new ExternalServiceUnavailableException(service + " call failed: " + cause.getMessage(), cause);
+    }
+}
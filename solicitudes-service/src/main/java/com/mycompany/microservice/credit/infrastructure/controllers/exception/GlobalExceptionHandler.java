@@ -1,7 +1,9 @@
 package com.mycompany.microservice.credit.infrastructure.controllers.exception;
 
 import com.mycompany.microservice.credit.infrastructure.controllers.exception.ApplicationCannotBeDeletedException;
+import com.mycompany.microservice.credit.infrastructure.controllers.exception.ApplicationConflictException;
 import com.mycompany.microservice.credit.infrastructure.controllers.exception.ApplicationNotFoundException;
+import com.mycompany.microservice.credit.infrastructure.controllers.exception.ExternalServiceUnavailableException;
 import com.mycompany.microservice.credit.infrastructure.controllers.exception.UnauthorizedAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -45,6 +47,18 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(400, "CANNOT_DELETE", ex.getMessage(), LocalDateTime.now()));
     }
 
+    @ExceptionHandler(ApplicationConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflict(ApplicationConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse(409, "CONFLICT", ex.getMessage(), LocalDateTime.now()));
+    }
+
+    @ExceptionHandler(ExternalServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ExternalServiceUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse(503, "SERVICE_UNAVAILABLE", ex.getMessage(), LocalDateTime.now()));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
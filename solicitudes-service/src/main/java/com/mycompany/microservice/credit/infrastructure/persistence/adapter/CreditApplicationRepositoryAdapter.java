@@ -1,29 +1,60 @@
 package com.mycompany.microservice.credit.infrastructure.persistence.adapter;
 
+import com.mycompany.microservice.credit.domain.model.ApplicationSearchCriteria;
+import com.mycompany.microservice.credit.domain.model.ApplicationStatus;
 import com.mycompany.microservice.credit.domain.model.CreditApplication;
+import com.mycompany.microservice.credit.domain.model.PageCursor;
+import com.mycompany.microservice.credit.domain.model.RiskAssessment;
+import com.mycompany.microservice.credit.domain.model.StatusChange;
 import com.mycompany.microservice.credit.domain.port.out.CreditApplicationRepository;
 import com.mycompany.microservice.credit.infrastructure.persistence.entity.CreditApplicationEntity;
 import com.mycompany.microservice.credit.infrastructure.persistence.mapper.CreditApplicationMapper;
+import com.mycompany.microservice.credit.infrastructure.persistence.repository.CreditApplicationSpecifications;
 import com.mycompany.microservice.credit.infrastructure.persistence.repository.JpaCreditApplicationRepository;
+import com.mycompany.microservice.observability.ObservabilityAutoConfiguration;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adapter implementing domain repository using JPA.
  */
 @Component
+@Observed(name = ObservabilityAutoConfiguration.REPOSITORY_ADAPTER_OBSERVATION)
 public class CreditApplicationRepositoryAdapter implements CreditApplicationRepository {
 
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    // Rows streamed between persistence-context clears (matches the query fetch size)
+    private static final int STREAM_CLEAR_INTERVAL = 500;
+
     private final JpaCreditApplicationRepository jpaRepository;
     private final CreditApplicationMapper mapper;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     public CreditApplicationRepositoryAdapter(JpaCreditApplicationRepository jpaRepository,
-            CreditApplicationMapper mapper) {
+            CreditApplicationMapper mapper, EntityManager entityManager, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -33,25 +64,124 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public void insertAll(List<CreditApplication> applications) {
+        // Sequence ids let Hibernate group these into JDBC batches (hibernate.jdbc.batch_size)
+        for (CreditApplication application : applications) {
+            entityManager.persist(mapper.toEntity(application));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
     @Override
     public Optional<CreditApplication> findById(Long id) {
         return jpaRepository.findById(id).map(mapper::toDomain);
     }
 
     @Override
-    public List<CreditApplication> findByUserId(Long userId) {
-        return jpaRepository.findByUserId(userId).stream()
+    public List<CreditApplication> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<CreditApplication> findAll() {
-        return jpaRepository.findAll().stream()
+    public Set<Long> applyStatusChanges(List<StatusChange> changes, LocalDateTime updatedAt) {
+        // Plain JDBC batch: one round trip for the whole list, no entity loading or dirty checking
+        Timestamp now = Timestamp.valueOf(updatedAt);
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "UPDATE credit_applications SET status = ?, analyst_notes = COALESCE(?, analyst_notes), "
+                        + "updated_at = ?, version = version + 1 WHERE id = ? AND version = ?",
+                changes, changes.size(), (ps, change) -> {
+                    ps.setString(1, change.status().name());
+                    ps.setString(2, change.analystNotes());
+                    ps.setTimestamp(3, now);
+                    ps.setLong(4, change.id());
+                    ps.setLong(5, change.expectedVersion());
+                });
+
+        Set<Long> updated = new HashSet<>();
+        for (int i = 0; i < changes.size(); i++) {
+            if (counts[0][i] > 0) {
+                updated.add(changes.get(i).id());
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public Optional<CreditApplication> updateIfCurrent(Long id, Set<ApplicationStatus> expectedStatuses,
+            Long expectedVersion, ApplicationStatus newStatus, String analystNotes) {
+        List<String> statuses = expectedStatuses.stream().map(Enum::name).toList();
+        String status = newStatus != null ? newStatus.name() : null;
+        LocalDateTime now = LocalDateTime.now();
+
+        Optional<CreditApplicationEntity> updated = expectedVersion == null
+                ? jpaRepository.updateIfInStatus(id, statuses, status, analystNotes, now)
+                : jpaRepository.updateIfInStatusAndVersion(id, statuses, expectedVersion, status, analystNotes, now);
+        return updated.map(mapper::toDomain);
+    }
+
+    @Override
+    public boolean saveRiskAssessment(Long id, RiskAssessment assessment) {
+        String level = assessment.level() != null ? assessment.level().name() : null;
+        return jpaRepository.updateRiskAssessment(id, assessment.score(), level,
+                assessment.detail(), assessment.evaluatedAt()) > 0;
+    }
+
+    @Override
+    public Optional<RiskAssessment> findLatestRiskAssessment(Long userId, LocalDateTime evaluatedSince) {
+        return jpaRepository.findLatestAssessed(userId, evaluatedSince, Limit.of(1)).stream()
+                .findFirst()
+                .map(entity -> mapper.toDomain(entity).getRiskAssessment());
+    }
+
+    @Override
+    public List<CreditApplication> findPage(Long userId, PageCursor after, int limit) {
+        Limit max = Limit.of(limit);
+        List<CreditApplicationEntity> entities;
+        if (userId == null) {
+            entities = after == null
+                    ? jpaRepository.findFirstPage(max)
+                    : jpaRepository.findPageAfter(after.createdAt(), after.id(), limit);
+        } else {
+            entities = after == null
+                    ? jpaRepository.findFirstPageByUserId(userId, max)
+                    : jpaRepository.findPageByUserIdAfter(userId, after.createdAt(), after.id(), limit);
+        }
+        return entities.stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<CreditApplication> search(ApplicationSearchCriteria criteria, PageCursor after, int limit) {
+        Specification<CreditApplicationEntity> spec = CreditApplicationSpecifications.matching(criteria);
+        if (after != null) {
+            spec = spec.and(CreditApplicationSpecifications.after(after));
+        }
+        return jpaRepository.findBy(spec, query -> query.sortBy(NEWEST_FIRST).limit(limit).all()).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void forEachMatching(Long userId, ApplicationStatus status, Consumer<CreditApplication> action) {
+        try (Stream<CreditApplicationEntity> rows = jpaRepository.streamMatching(userId, status)) {
+            Iterator<CreditApplicationEntity> iterator = rows.iterator();
+            int sinceClear = 0;
+            while (iterator.hasNext()) {
+                action.accept(mapper.toDomain(iterator.next()));
+                // Drop the already-mapped entities so the persistence context stays small
+                if (++sinceClear == STREAM_CLEAR_INTERVAL) {
+                    entityManager.clear();
+                    sinceClear = 0;
+                }
+            }
+        }
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
@@ -0,0 +1,219 @@
+package com.mycompany.microservice.credit.infrastructure.persistence.adapter;
+
+import com.mycompany.microservice.credit.domain.model.ApplicationStatus;
+import com.mycompany.microservice.credit.domain.model.CreditApplication;
+import com.mycompany.microservice.credit.domain.model.PageCursor;
+import com.mycompany.microservice.credit.domain.model.RiskAssessment;
+import com.mycompany.microservice.credit.domain.model.RiskLevel;
+import com.mycompany.microservice.credit.domain.port.out.ReactiveCreditApplicationRepository;
+import com.mycompany.microservice.credit.infrastructure.config.R2dbcConfig;
+import com.mycompany.microservice.observability.ObservabilityAutoConfiguration;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Adapter implementing the reactive repository port with plain SQL over R2DBC.
+ * Statements and semantics mirror {@link CreditApplicationRepositoryAdapter}:
+ * same keyset queries, same conditional updates, and the same optimistic
+ * version check JPA applies when saving an existing application.
+ *
+ * <p>{@code @Observed} would only observe building the Mono, so each method
+ * starts the same {@code repository.adapter} observation as the JPA adapter
+ * itself, from subscription until the result or error, as a child of the
+ * observation in the subscriber's context (the request's span).
+ */
+@Component
+@Profile(R2dbcConfig.PROFILE)
+public class R2dbcCreditApplicationRepositoryAdapter implements ReactiveCreditApplicationRepository {
+
+    private final DatabaseClient client;
+    private final ObservationRegistry observationRegistry;
+
+    public R2dbcCreditApplicationRepositoryAdapter(DatabaseClient client, ObservationRegistry observationRegistry) {
+        this.client = client;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Mono<CreditApplication> save(CreditApplication application) {
+        return observed("save", application.getId() == null ? insert(application) : update(application));
+    }
+
+    private Mono<CreditApplication> insert(CreditApplication application) {
+        // The id column defaults to the shared sequence, so ids never collide with JPA inserts
+        LocalDateTime createdAt = application.getCreatedAt() != null ? application.getCreatedAt() : LocalDateTime.now();
+        LocalDateTime updatedAt = application.getUpdatedAt() != null ? application.getUpdatedAt() : createdAt;
+        DatabaseClient.GenericExecuteSpec spec = client.sql("INSERT INTO credit_applications "
+                + "(user_id, amount, term_months, purpose, status, analyst_notes, created_at, updated_at, version) "
+                + "VALUES (:userId, :amount, :termMonths, :purpose, :status, :notes, :createdAt, :updatedAt, 0) "
+                + "RETURNING *")
+                .bind("userId", application.getUserId())
+                .bind("amount", application.getAmount())
+                .bind("termMonths", application.getTermMonths())
+                .bind("status", application.getStatus().name())
+                .bind("createdAt", createdAt)
+                .bind("updatedAt", updatedAt);
+        spec = bind(spec, "purpose", application.getPurpose(), String.class);
+        spec = bind(spec, "notes", application.getAnalystNotes(), String.class);
+        return spec.map(R2dbcCreditApplicationRepositoryAdapter::toDomain).one();
+    }
+
+    private Mono<CreditApplication> update(CreditApplication application) {
+        DatabaseClient.GenericExecuteSpec spec = client.sql("UPDATE credit_applications SET "
+                + "amount = :amount, term_months = :termMonths, purpose = :purpose, status = :status, "
+                + "analyst_notes = :notes, updated_at = :updatedAt, version = version + 1 "
+                + "WHERE id = :id AND version = :version "
+                + "RETURNING *")
+                .bind("id", application.getId())
+                .bind("version", application.getVersion())
+                .bind("amount", application.getAmount())
+                .bind("termMonths", application.getTermMonths())
+                .bind("status", application.getStatus().name())
+                .bind("updatedAt", LocalDateTime.now());
+        spec = bind(spec, "purpose", application.getPurpose(), String.class);
+        spec = bind(spec, "notes", application.getAnalystNotes(), String.class);
+        return spec.map(R2dbcCreditApplicationRepositoryAdapter::toDomain).one()
+                .switchIfEmpty(Mono.error(() -> new OptimisticLockingFailureException(
+                        "Credit application " + application.getId() + " was updated or deleted concurrently")));
+    }
+
+    @Override
+    public Mono<CreditApplication> findById(Long id) {
+        return observed("findById", client.sql("SELECT * FROM credit_applications WHERE id = :id")
+                .bind("id", id)
+                .map(R2dbcCreditApplicationRepositoryAdapter::toDomain)
+                .one());
+    }
+
+    @Override
+    public Mono<CreditApplication> updateIfCurrent(Long id, Set<ApplicationStatus> expectedStatuses,
+            Long expectedVersion, ApplicationStatus newStatus, String analystNotes) {
+        List<String> statuses = expectedStatuses.stream().map(Enum::name).toList();
+        // Null status/notes keep the current value
+        DatabaseClient.GenericExecuteSpec spec = client.sql("UPDATE credit_applications "
+                + "SET status = COALESCE(:status, status), analyst_notes = COALESCE(:notes, analyst_notes), "
+                + "updated_at = :updatedAt, version = version + 1 "
+                + "WHERE id = :id AND status IN (:expectedStatuses)"
+                + (expectedVersion != null ? " AND version = :version" : "")
+                + " RETURNING *")
+                .bind("id", id)
+                .bind("expectedStatuses", statuses)
+                .bind("updatedAt", LocalDateTime.now());
+        spec = bind(spec, "status", newStatus != null ? newStatus.name() : null, String.class);
+        spec = bind(spec, "notes", analystNotes, String.class);
+        if (expectedVersion != null) {
+            spec = spec.bind("version", expectedVersion);
+        }
+        return observed("updateIfCurrent", spec.map(R2dbcCreditApplicationRepositoryAdapter::toDomain).one());
+    }
+
+    @Override
+    public Flux<CreditApplication> findPage(Long userId, PageCursor after, int limit) {
+        // Same row-value comparison as the JPA native queries, so the (created_at, id) indexes apply
+        StringBuilder sql = new StringBuilder("SELECT * FROM credit_applications");
+        String keyword = " WHERE ";
+        if (userId != null) {
+            sql.append(keyword).append("user_id = :userId");
+            keyword = " AND ";
+        }
+        if (after != null) {
+            sql.append(keyword).append("(created_at, id) < (:createdAt, :id)");
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT :limit");
+
+        DatabaseClient.GenericExecuteSpec spec = client.sql(sql.toString()).bind("limit", limit);
+        if (userId != null) {
+            spec = spec.bind("userId", userId);
+        }
+        if (after != null) {
+            spec = spec.bind("createdAt", after.createdAt()).bind("id", after.id());
+        }
+        return observed("findPage", spec.map(R2dbcCreditApplicationRepositoryAdapter::toDomain).all());
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return observed("deleteById", client.sql("DELETE FROM credit_applications WHERE id = :id")
+                .bind("id", id)
+                .then());
+    }
+
+    private <T> Mono<T> observed(String method, Mono<T> operation) {
+        return Mono.deferContextual(context -> {
+            Observation observation = start(method, context);
+            return operation
+                    .doOnError(observation::error)
+                    .doFinally(signal -> observation.stop())
+                    .contextWrite(c -> c.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+
+    private <T> Flux<T> observed(String method, Flux<T> operation) {
+        return Flux.deferContextual(context -> {
+            Observation observation = start(method, context);
+            return operation
+                    .doOnError(observation::error)
+                    .doFinally(signal -> observation.stop())
+                    .contextWrite(c -> c.put(ObservationThreadLocalAccessor.KEY, observation));
+        });
+    }
+
+    // Same name, contextual name and tags as ObservedAspect uses for the JPA adapter
+    private Observation start(String method, ContextView context) {
+        Observation parent = context.getOrDefault(ObservationThreadLocalAccessor.KEY,
+                observationRegistry.getCurrentObservation());
+        return Observation.createNotStarted(ObservabilityAutoConfiguration.REPOSITORY_ADAPTER_OBSERVATION, observationRegistry)
+                .contextualName(R2dbcCreditApplicationRepositoryAdapter.class.getSimpleName() + "#" + method)
+                .lowCardinalityKeyValue("class", R2dbcCreditApplicationRepositoryAdapter.class.getName())
+                .lowCardinalityKeyValue("method", method)
+                .parentObservation(parent)
+                .start();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec,
+            String name, Object value, Class<?> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+
+    private static CreditApplication toDomain(Readable row) {
+        return new CreditApplication(
+                row.get("id", Long.class),
+                row.get("user_id", Long.class),
+                row.get("amount", BigDecimal.class),
+                row.get("term_months", Integer.class),
+                row.get("purpose", String.class),
+                ApplicationStatus.valueOf(row.get("status", String.class)),
+                row.get("analyst_notes", String.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("version", Long.class),
+                toRiskAssessment(row));
+    }
+
+    private static RiskAssessment toRiskAssessment(Readable row) {
+        LocalDateTime evaluatedAt = row.get("risk_evaluated_at", LocalDateTime.class);
+        if (evaluatedAt == null)
+            return null;
+
+        String level = row.get("risk_level", String.class);
+        return new RiskAssessment(
+                row.get("risk_score", Integer.class),
+                level != null ? RiskLevel.valueOf(level) : null,
+                row.get("risk_detail", String.class),
+                evaluatedAt);
+    }
+}
@@ -1,6 +1,7 @@
 package com.mycompany.microservice.credit.infrastructure.persistence.entity;
 
 import com.mycompany.microservice.credit.domain.model.ApplicationStatus;
+import com.mycompany.microservice.credit.domain.model.RiskLevel;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -13,7 +14,8 @@ import java.time.LocalDateTime;
 public class CreditApplicationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_applications_seq")
+    @SequenceGenerator(name = "credit_applications_seq", sequenceName = "credit_applications_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -35,12 +37,29 @@ public class CreditApplicationEntity {
     @Column(name = "analyst_notes", length = 1000)
     private String analystNotes;
 
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "updated_at")
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "risk_score")
+    private Integer riskScore;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "risk_level", length = 10)
+    private RiskLevel riskLevel;
+
+    @Column(name = "risk_detail", length = 500)
+    private String riskDetail;
+
+    @Column(name = "risk_evaluated_at")
+    private LocalDateTime riskEvaluatedAt;
+
     public CreditApplicationEntity() {
     }
 
@@ -117,10 +136,55 @@ public class CreditApplicationEntity {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Integer getRiskScore() {
+        return riskScore;
+    }
+
+    public void setRiskScore(Integer riskScore) {
+        this.riskScore = riskScore;
+    }
+
+    public RiskLevel getRiskLevel() {
+        return riskLevel;
+    }
+
+    public void setRiskLevel(RiskLevel riskLevel) {
+        this.riskLevel = riskLevel;
+    }
+
+    public String getRiskDetail() {
+        return riskDetail;
+    }
+
+    public void setRiskDetail(String riskDetail) {
+        this.riskDetail = riskDetail;
+    }
+
+    public LocalDateTime getRiskEvaluatedAt() {
+        return riskEvaluatedAt;
+    }
+
+    public void setRiskEvaluatedAt(LocalDateTime riskEvaluatedAt) {
+        this.riskEvaluatedAt = riskEvaluatedAt;
+    }
+
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        // Imported applications keep their original timestamps
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (updatedAt == null) {
+            updatedAt = createdAt;
+        }
     }
 
     @PreUpdate
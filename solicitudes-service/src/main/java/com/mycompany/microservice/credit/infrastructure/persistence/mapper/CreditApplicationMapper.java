@@ -1,6 +1,7 @@
 package com.mycompany.microservice.credit.infrastructure.persistence.mapper;
 
 import com.mycompany.microservice.credit.domain.model.CreditApplication;
+import com.mycompany.microservice.credit.domain.model.RiskAssessment;
 import com.mycompany.microservice.credit.infrastructure.persistence.entity.CreditApplicationEntity;
 import org.springframework.stereotype.Component;
 
@@ -24,6 +25,14 @@ public class CreditApplicationMapper {
         entity.setAnalystNotes(domain.getAnalystNotes());
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setUpdatedAt(domain.getUpdatedAt());
+        entity.setVersion(domain.getVersion());
+        RiskAssessment risk = domain.getRiskAssessment();
+        if (risk != null) {
+            entity.setRiskScore(risk.score());
+            entity.setRiskLevel(risk.level());
+            entity.setRiskDetail(risk.detail());
+            entity.setRiskEvaluatedAt(risk.evaluatedAt());
+        }
         return entity;
     }
 
@@ -40,6 +49,19 @@ public class CreditApplicationMapper {
                 entity.getStatus(),
                 entity.getAnalystNotes(),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt());
+                entity.getUpdatedAt(),
+                entity.getVersion(),
+                toRiskAssessment(entity));
+    }
+
+    private RiskAssessment toRiskAssessment(CreditApplicationEntity entity) {
+        if (entity.getRiskEvaluatedAt() == null)
+            return null;
+
+        return new RiskAssessment(
+                entity.getRiskScore(),
+                entity.getRiskLevel(),
+                entity.getRiskDetail(),
+                entity.getRiskEvaluatedAt());
     }
 }
@@ -0,0 +1,61 @@
+package com.mycompany.microservice.credit.infrastructure.persistence.repository;
+
+import com.mycompany.microservice.credit.domain.model.ApplicationSearchCriteria;
+import com.mycompany.microservice.credit.domain.model.PageCursor;
+import com.mycompany.microservice.credit.infrastructure.persistence.entity.CreditApplicationEntity;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA Specifications for searching CreditApplicationEntity.
+ * Only the filters that are present end up in the WHERE clause, so each
+ * combination can use the matching composite index.
+ */
+public final class CreditApplicationSpecifications {
+
+    private CreditApplicationSpecifications() {
+    }
+
+    public static Specification<CreditApplicationEntity> matching(ApplicationSearchCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (criteria.status() != null) {
+                predicates.add(cb.equal(root.get("status"), criteria.status()));
+            }
+            if (criteria.userId() != null) {
+                predicates.add(cb.equal(root.get("userId"), criteria.userId()));
+            }
+            if (criteria.minAmount() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("amount"), criteria.minAmount()));
+            }
+            if (criteria.maxAmount() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("amount"), criteria.maxAmount()));
+            }
+            if (criteria.termMonths() != null) {
+                predicates.add(cb.equal(root.get("termMonths"), criteria.termMonths()));
+            }
+            if (criteria.createdFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), criteria.createdFrom()));
+            }
+            if (criteria.createdTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), criteria.createdTo()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Rows strictly after the cursor in (createdAt desc, id desc) order.
+     * The redundant createdAt <= bound gives the planner an index range to seek on.
+     */
+    public static Specification<CreditApplicationEntity> after(PageCursor cursor) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("createdAt"), cursor.createdAt()),
+                cb.or(
+                        cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.get("id"), cursor.id())));
+    }
+}
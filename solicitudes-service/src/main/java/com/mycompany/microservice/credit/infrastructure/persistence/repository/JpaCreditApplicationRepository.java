@@ -1,18 +1,102 @@
 package com.mycompany.microservice.credit.infrastructure.persistence.repository;
 
+import com.mycompany.microservice.credit.domain.model.ApplicationStatus;
 import com.mycompany.microservice.credit.infrastructure.persistence.entity.CreditApplicationEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository for CreditApplicationEntity.
  */
 @Repository
-public interface JpaCreditApplicationRepository extends JpaRepository<CreditApplicationEntity, Long> {
+public interface JpaCreditApplicationRepository extends JpaRepository<CreditApplicationEntity, Long>,
+        JpaSpecificationExecutor<CreditApplicationEntity> {
 
-    List<CreditApplicationEntity> findByUserId(Long userId);
+    // Keyset pagination: newest first. The cursor queries are native because the
+    // row-value comparison is what lets the (created_at, id) indexes seek straight
+    // to the cursor position.
 
-    List<CreditApplicationEntity> findByStatus(String status);
+    @Query("SELECT a FROM CreditApplicationEntity a ORDER BY a.createdAt DESC, a.id DESC")
+    List<CreditApplicationEntity> findFirstPage(Limit limit);
+
+    @Query(value = "SELECT * FROM credit_applications "
+            + "WHERE (created_at, id) < (:createdAt, :id) "
+            + "ORDER BY created_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<CreditApplicationEntity> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, @Param("limit") int limit);
+
+    @Query("SELECT a FROM CreditApplicationEntity a WHERE a.userId = :userId "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<CreditApplicationEntity> findFirstPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Query(value = "SELECT * FROM credit_applications WHERE user_id = :userId "
+            + "AND (created_at, id) < (:createdAt, :id) "
+            + "ORDER BY created_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<CreditApplicationEntity> findPageByUserIdAfter(@Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, @Param("limit") int limit);
+
+    // Conditional updates: one round trip, RETURNING gives back the new row (and version).
+    // Null status/notes keep the current value.
+
+    @Query(value = "UPDATE credit_applications SET status = COALESCE(:status, status), "
+            + "analyst_notes = COALESCE(:notes, analyst_notes), updated_at = :updatedAt, version = version + 1 "
+            + "WHERE id = :id AND status IN (:expectedStatuses) "
+            + "RETURNING *", nativeQuery = true)
+    Optional<CreditApplicationEntity> updateIfInStatus(@Param("id") Long id,
+            @Param("expectedStatuses") Collection<String> expectedStatuses,
+            @Param("status") String status, @Param("notes") String notes,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query(value = "UPDATE credit_applications SET status = COALESCE(:status, status), "
+            + "analyst_notes = COALESCE(:notes, analyst_notes), updated_at = :updatedAt, version = version + 1 "
+            + "WHERE id = :id AND status IN (:expectedStatuses) AND version = :version "
+            + "RETURNING *", nativeQuery = true)
+    Optional<CreditApplicationEntity> updateIfInStatusAndVersion(@Param("id") Long id,
+            @Param("expectedStatuses") Collection<String> expectedStatuses, @Param("version") Long version,
+            @Param("status") String status, @Param("notes") String notes,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE credit_applications SET risk_score = :score, risk_level = :level, "
+            + "risk_detail = :detail, risk_evaluated_at = :evaluatedAt "
+            + "WHERE id = :id", nativeQuery = true)
+    int updateRiskAssessment(@Param("id") Long id, @Param("score") Integer score,
+            @Param("level") String level, @Param("detail") String detail,
+            @Param("evaluatedAt") LocalDateTime evaluatedAt);
+
+    @Query("SELECT a FROM CreditApplicationEntity a WHERE a.userId = :userId "
+            + "AND a.riskEvaluatedAt >= :evaluatedSince ORDER BY a.riskEvaluatedAt DESC")
+    List<CreditApplicationEntity> findLatestAssessed(@Param("userId") Long userId,
+            @Param("evaluatedSince") LocalDateTime evaluatedSince, Limit limit);
+
+    /**
+     * Server-side cursor over the matching rows (the fetch size only takes
+     * effect inside a transaction). The caller must close the stream.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM CreditApplicationEntity a "
+            + "WHERE (:userId IS NULL OR a.userId = :userId) "
+            + "AND (:status IS NULL OR a.status = :status) "
+            + "ORDER BY a.id")
+    Stream<CreditApplicationEntity> streamMatching(@Param("userId") Long userId,
+            @Param("status") ApplicationStatus status);
 }
@@ -1,6 +1,7 @@
 package com.mycompany.microservice.credit.infrastructure.security.config;
 
 import com.mycompany.microservice.credit.infrastructure.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -55,11 +56,17 @@ public class SecurityConfig {
                         .requestMatchers("/api/applications/health").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers("/error").permitAll()
+                        // Async dispatches (streamed responses) were already authorized on the initial request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 
                         // My applications - AFILIADO can only see their own
                         .requestMatchers(HttpMethod.GET, "/api/applications/my")
                         .hasAnyAuthority("ROLE_AFILIADO", "ROLE_ANALISTA", "ROLE_ADMIN")
 
+                        // Bulk status changes and imports - ANALISTA and ADMIN only
+                        .requestMatchers(HttpMethod.POST, "/api/applications/status-changes", "/api/applications/import")
+                        .hasAnyAuthority("ROLE_ANALISTA", "ROLE_ADMIN")
+
                         // Create application - All authenticated users
                         .requestMatchers(HttpMethod.POST, "/api/applications")
                         .hasAnyAuthority("ROLE_AFILIADO", "ROLE_ANALISTA", "ROLE_ADMIN")
@@ -68,6 +75,10 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/applications")
                         .hasAnyAuthority("ROLE_ANALISTA", "ROLE_ADMIN")
 
+                        // Search and export - ANALISTA and ADMIN only (must precede the {id} rule)
+                        .requestMatchers(HttpMethod.GET, "/api/applications/search", "/api/applications/export")
+                        .hasAnyAuthority("ROLE_ANALISTA", "ROLE_ADMIN")
+
                         // Get by ID - role check done in service
                         .requestMatchers(HttpMethod.GET, "/api/applications/{id}")
                         .hasAnyAuthority("ROLE_AFILIADO", "ROLE_ANALISTA", "ROLE_ADMIN")
@@ -1,11 +1,12 @@
 package com.mycompany.microservice.credit.infrastructure.security.jwt;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -13,9 +14,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Optional;
 
 /**
  * JWT Authentication Filter.
@@ -25,9 +24,11 @@ import java.util.Map;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final ObservationRegistry observationRegistry;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, ObservationRegistry observationRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.observationRegistry = observationRegistry;
     }
 
     @Override
@@ -37,25 +38,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String email = jwtTokenProvider.getEmailFromToken(jwt);
-                Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
-                String role = jwtTokenProvider.getRoleFromToken(jwt);
+            if (StringUtils.hasText(jwt)) {
+                // Timer jwt.verify{outcome} and a span under the request's
+                Observation observation = Observation.start("jwt.verify", observationRegistry);
+                Optional<JwtPrincipal> verified = jwtTokenProvider.verify(jwt);
+                observation.lowCardinalityKeyValue("outcome", verified.isPresent() ? "valid" : "invalid").stop();
 
-                // Create authentication with role authority
-                SimpleGrantedAuthority authority = new SimpleGrantedAuthority(role);
+                verified.ifPresent(principal -> {
+                    // Principal details and role authority are precomputed per token
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            principal.getDetails(), null, principal.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                // Store user details in principal
-                Map<String, Object> userDetails = new HashMap<>();
-                userDetails.put("userId", userId);
-                userDetails.put("email", email);
-                userDetails.put("role", role);
-
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, Collections.singletonList(authority));
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                });
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
@@ -0,0 +1,78 @@
+package com.mycompany.microservice.credit.infrastructure.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of a verified JWT.
+ * Built once per token and reused while the token is cached, so the
+ * principal details and authorities are precomputed here.
+ */
+public final class JwtPrincipal {
+
+    private final Long userId;
+    private final String email;
+    private final String role;
+    private final Instant expiresAt;
+    private final Map<String, Object> details;
+    private final List<GrantedAuthority> authorities;
+
+    public JwtPrincipal(Long userId, String email, String role, Instant expiresAt) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.expiresAt = expiresAt;
+
+        Map<String, Object> userDetails = new HashMap<>();
+        userDetails.put("userId", userId);
+        userDetails.put("email", email);
+        userDetails.put("role", role);
+        this.details = Collections.unmodifiableMap(userDetails);
+        this.authorities = List.of(new SimpleGrantedAuthority(role));
+    }
+
+    public static JwtPrincipal from(Claims claims) {
+        return new JwtPrincipal(
+                claims.get("userId", Long.class),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    /**
+     * Token expiration, or null when the token carries no exp claim.
+     */
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * User details stored as the authentication principal (userId, email, role).
+     */
+    public Map<String, Object> getDetails() {
+        return details;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+}
@@ -7,18 +7,27 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.util.Optional;
 
 /**
  * JWT Token Provider for validating tokens from auth service.
+ * Each token is parsed and its signature checked once; the resulting
+ * principal is kept in the {@link VerifiedTokenCache} until the token expires.
  */
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final VerifiedTokenCache tokenCache;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secret) {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secret, VerifiedTokenCache tokenCache) {
         byte[] keyBytes = Decoders.BASE64.decode(java.util.Base64.getEncoder().encodeToString(secret.getBytes()));
-        this.secretKey = Keys.hmacShaKeyFor(keyBytes.length >= 32 ? keyBytes : padKey(secret));
+        SecretKey secretKey = Keys.hmacShaKeyFor(keyBytes.length >= 32 ? keyBytes : padKey(secret));
+        // JwtParser is immutable and thread-safe, build it once
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.tokenCache = tokenCache;
     }
 
     private byte[] padKey(String secret) {
@@ -28,32 +37,24 @@ public class JwtTokenProvider {
         return keyBytes;
     }
 
-    public String getEmailFromToken(String token) {
-        return parseToken(token).getSubject();
-    }
-
-    public Long getUserIdFromToken(String token) {
-        return parseToken(token).get("userId", Long.class);
-    }
-
-    public String getRoleFromToken(String token) {
-        return parseToken(token).get("role", String.class);
-    }
+    /**
+     * Verify the token and return its principal.
+     * Cached tokens skip parsing and signature checks entirely.
+     *
+     * @return the principal, or empty if the token is invalid or expired
+     */
+    public Optional<JwtPrincipal> verify(String token) {
+        JwtPrincipal cached = tokenCache.get(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
 
-    public boolean validateToken(String token) {
         try {
-            parseToken(token);
-            return true;
+            JwtPrincipal principal = JwtPrincipal.from(parser.parseSignedClaims(token).getPayload());
+            tokenCache.put(token, principal);
+            return Optional.of(principal);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
-
-    private Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
 }
@@ -0,0 +1,67 @@
+package com.mycompany.microservice.credit.infrastructure.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Token this service presents to auth-service's internal endpoints
+ * ({@code /api/auth/users/**}), signed with the shared {@code jwt.secret}.
+ * Role {@value #ROLE}, no user id. One token is reused until half of its
+ * lifetime has passed, then replaced.
+ */
+@Component
+public class ServiceTokenProvider {
+
+    public static final String ROLE = "ROLE_SERVICE";
+    private static final String SUBJECT = "solicitudes-service";
+
+    private final SecretKey secretKey;
+    private final Duration ttl;
+    private volatile IssuedToken current;
+
+    public ServiceTokenProvider(@Value("${jwt.secret}") String secret,
+            @Value("${jwt.service-token.ttl:1h}") Duration ttl) {
+        byte[] keyBytes = Decoders.BASE64.decode(java.util.Base64.getEncoder().encodeToString(secret.getBytes()));
+        this.secretKey = Keys.hmacShaKeyFor(keyBytes.length >= 32 ? keyBytes : padKey(secret));
+        this.ttl = ttl;
+    }
+
+    private byte[] padKey(String secret) {
+        byte[] keyBytes = new byte[32];
+        byte[] secretBytes = secret.getBytes();
+        System.arraycopy(secretBytes, 0, keyBytes, 0, Math.min(secretBytes.length, 32));
+        return keyBytes;
+    }
+
+    /**
+     * Current service token, issuing a new one when the cached token is past half its lifetime.
+     */
+    public String token() {
+        Instant now = Instant.now();
+        IssuedToken token = current;
+        if (token == null || now.isAfter(token.renewAt())) {
+            // Concurrent renewals just sign twice; either token is valid
+            Instant expiresAt = now.plus(ttl);
+            token = new IssuedToken(Jwts.builder()
+                    .subject(SUBJECT)
+                    .claim("role", ROLE)
+                    .issuedAt(Date.from(now))
+                    .expiration(Date.from(expiresAt))
+                    .signWith(secretKey)
+                    .compact(), now.plus(ttl.dividedBy(2)));
+            current = token;
+        }
+        return token.value();
+    }
+
+    private record IssuedToken(String value, Instant renewAt) {
+    }
+}
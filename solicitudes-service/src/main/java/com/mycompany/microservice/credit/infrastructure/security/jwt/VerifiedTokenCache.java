@@ -0,0 +1,85 @@
+package com.mycompany.microservice.credit.infrastructure.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+
+/**
+ * Bounded cache of already verified tokens.
+ * Keys are SHA-256 digests of the raw token, so bearer tokens are never kept
+ * on the heap; each entry expires at the token's own exp claim.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<TokenDigest, JwtPrincipal> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    /**
+     * Return the cached principal for the token, or null on a miss.
+     */
+    public JwtPrincipal get(String token) {
+        return cache.getIfPresent(TokenDigest.of(token));
+    }
+
+    /**
+     * Cache a verified principal. Tokens without an exp claim are not cached.
+     */
+    public void put(String token, JwtPrincipal principal) {
+        if (principal.getExpiresAt() != null && principal.getExpiresAt().isAfter(Instant.now())) {
+            cache.put(TokenDigest.of(token), principal);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<TokenDigest, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, JwtPrincipal value, long currentTime) {
+            long remainingMs = value.getExpiresAt().toEpochMilli() - System.currentTimeMillis();
+            return Math.max(0, remainingMs) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, JwtPrincipal value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, JwtPrincipal value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * 256-bit token digest held as four longs.
+     */
+    record TokenDigest(long a, long b, long c, long d) {
+
+        static TokenDigest of(String token) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256")
+                        .digest(token.getBytes(StandardCharsets.US_ASCII));
+                ByteBuffer buffer = ByteBuffer.wrap(hash);
+                return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+}
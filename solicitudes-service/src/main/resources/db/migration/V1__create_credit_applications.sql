@@ -0,0 +1,15 @@
+-- Baseline schema, as previously generated by Hibernate (ddl-auto: update).
+-- IF NOT EXISTS keeps it a no-op on databases created before Flyway was introduced.
+CREATE TABLE IF NOT EXISTS credit_applications (
+    id            BIGSERIAL PRIMARY KEY,
+    user_id       BIGINT         NOT NULL,
+    amount        NUMERIC(15, 2) NOT NULL,
+    term_months   INTEGER        NOT NULL,
+    purpose       VARCHAR(500),
+    status        VARCHAR(20)    NOT NULL
+        CONSTRAINT credit_applications_status_check
+            CHECK (status IN ('PENDIENTE', 'EN_REVISION', 'APROBADA', 'RECHAZADA')),
+    analyst_notes VARCHAR(1000),
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6)
+);
@@ -0,0 +1,7 @@
+-- Keyset pagination on (created_at desc, id desc), globally and per user.
+-- Built CONCURRENTLY so existing tables stay writable; Flyway runs this script outside a transaction.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_credit_applications_created_at_id
+    ON credit_applications (created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_credit_applications_user_created_at_id
+    ON credit_applications (user_id, created_at, id);
@@ -0,0 +1,7 @@
+-- Analyst queue: status filter, newest first (optionally with a created_at range).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_credit_applications_status_created_at_id
+    ON credit_applications (status, created_at, id);
+
+-- Status plus amount range (e.g. large pending applications).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_credit_applications_status_amount
+    ON credit_applications (status, amount);
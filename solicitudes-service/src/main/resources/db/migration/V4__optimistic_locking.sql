@@ -0,0 +1,3 @@
+-- Optimistic locking for concurrent analyst updates (@Version on CreditApplicationEntity).
+-- A constant default makes this a catalog-only change; existing rows start at version 0.
+ALTER TABLE credit_applications ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
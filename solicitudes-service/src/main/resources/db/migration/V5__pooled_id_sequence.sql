@@ -0,0 +1,10 @@
+-- Ids come from a sequence handed out in blocks of 50 (Hibernate pooled-lo), so inserts can be
+-- batched; IDENTITY forced one round trip per row to read back the generated key.
+CREATE SEQUENCE IF NOT EXISTS credit_applications_seq INCREMENT BY 50;
+
+SELECT setval('credit_applications_seq', COALESCE((SELECT MAX(id) FROM credit_applications), 0) + 1, false);
+
+-- Rows inserted outside Hibernate draw from the same sequence (each takes the low end of a block)
+ALTER TABLE credit_applications ALTER COLUMN id SET DEFAULT nextval('credit_applications_seq');
+ALTER SEQUENCE credit_applications_seq OWNED BY credit_applications.id;
+DROP SEQUENCE IF EXISTS credit_applications_id_seq;
@@ -0,0 +1,6 @@
+-- Credit bureau assessment, filled in asynchronously after the application is created
+-- (NULL while the evaluation is pending or if it failed).
+ALTER TABLE credit_applications ADD COLUMN IF NOT EXISTS risk_score INTEGER;
+ALTER TABLE credit_applications ADD COLUMN IF NOT EXISTS risk_level VARCHAR(10);
+ALTER TABLE credit_applications ADD COLUMN IF NOT EXISTS risk_detail VARCHAR(500);
+ALTER TABLE credit_applications ADD COLUMN IF NOT EXISTS risk_evaluated_at TIMESTAMP;
@@ -0,0 +1,9 @@
+-- Keyset pagination seeks on (created_at, id) < cursor: a NULL created_at never compares,
+-- so such rows were missing from every page after the first. V1 left both timestamps nullable.
+-- Backfill them, then forbid NULLs (SET NOT NULL scans the table once under an exclusive lock).
+UPDATE credit_applications SET created_at = COALESCE(updated_at, now()) WHERE created_at IS NULL;
+UPDATE credit_applications SET updated_at = created_at WHERE updated_at IS NULL;
+
+ALTER TABLE credit_applications
+    ALTER COLUMN created_at SET NOT NULL,
+    ALTER COLUMN updated_at SET NOT NULL;
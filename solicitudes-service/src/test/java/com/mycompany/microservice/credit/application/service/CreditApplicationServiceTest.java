@@ -0,0 +1,269 @@
+package com.mycompany.microservice.credit.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.microservice.credit.application.dto.BulkStatusChangeRequest;
+import com.mycompany.microservice.credit.domain.model.ApplicationPage;
+import com.mycompany.microservice.credit.domain.model.ApplicationStatus;
+import com.mycompany.microservice.credit.domain.model.CreditApplication;
+import com.mycompany.microservice.credit.domain.model.PageCursor;
+import com.mycompany.microservice.credit.domain.model.StatusChange;
+import com.mycompany.microservice.credit.domain.model.StatusChangeResult;
+import com.mycompany.microservice.credit.domain.model.StatusChangeResult.Outcome;
+import com.mycompany.microservice.credit.domain.port.out.CreditApplicationRepository;
+import com.mycompany.microservice.credit.domain.port.out.RiskEvaluationPort;
+import com.mycompany.microservice.credit.domain.port.out.UserPort;
+import com.mycompany.microservice.credit.infrastructure.controllers.exception.ApplicationConflictException;
+import com.mycompany.microservice.credit.infrastructure.controllers.exception.ApplicationNotFoundException;
+import com.mycompany.microservice.credit.infrastructure.controllers.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * CreditApplicationService against a mocked repository: keyset paging with
+ * its size + 1 probe, why a conditional status update that matched no row
+ * is reported as 404 or 409, and per-item outcomes of a bulk status change.
+ */
+public class CreditApplicationServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    private final CreditApplicationRepository repository = mock(CreditApplicationRepository.class);
+    private final CreditApplicationService service = new CreditApplicationService(
+            repository, mock(UserPort.class), mock(RiskEvaluationPort.class));
+
+    @Test
+    public void asksForOneRowMoreThanThePageSize() {
+        PageCursor after = new PageCursor(T0, 100L);
+        when(repository.findPage(7L, after, 4)).thenReturn(List.of());
+
+        ApplicationPage page = service.getMyApplications(7L, after.encode(), 3);
+
+        verify(repository).findPage(7L, after, 4);
+        assertEquals(List.of(), page.items());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void fullPageWithProbeRowPointsAfterItsLastItem() {
+        List<CreditApplication> rows = applications(4);
+        when(repository.findPage(null, null, 4)).thenReturn(rows);
+
+        ApplicationPage page = service.getAllApplications(null, 3);
+
+        assertEquals(rows.subList(0, 3), page.items());
+        assertEquals(PageCursor.after(rows.get(2)), page.nextCursor());
+    }
+
+    @Test
+    public void exactlyFullLastPageHasNoCursor() {
+        List<CreditApplication> rows = applications(3);
+
+        ApplicationPage page = CreditApplicationService.toPage(rows, 3);
+
+        assertEquals(rows, page.items());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void blankCursorStartsAtTheFirstPage() {
+        when(repository.findPage(null, null, 21)).thenReturn(List.of());
+
+        service.getAllApplications(" ", CreditApplicationService.DEFAULT_PAGE_SIZE);
+
+        verify(repository).findPage(null, null, 21);
+    }
+
+    @Test
+    public void malformedCursorIsABadRequest() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> service.getAllApplications("bm90LWEtY3Vyc29y", 20));
+
+        assertEquals(HttpStatus.BAD_REQUEST, new GlobalExceptionHandler().handleIllegalArgument(e).getStatusCode());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    public void pageSizeOutOfRangeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> service.getAllApplications(null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getAllApplications(null, CreditApplicationService.MAX_PAGE_SIZE + 1));
+        verify(repository, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    public void transitionIsOneConditionalUpdateFromTheAllowedStatuses() {
+        CreditApplication updated = application(1L, ApplicationStatus.APROBADA, 4L);
+        when(repository.updateIfCurrent(1L, EnumSet.of(ApplicationStatus.PENDIENTE, ApplicationStatus.EN_REVISION),
+                3L, ApplicationStatus.APROBADA, "ok")).thenReturn(Optional.of(updated));
+
+        assertSame(updated, service.update(1L, "ok", "APROBADA", 3L));
+        verify(repository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void notesOnlyUpdateIsAllowedInAnyStatus() {
+        CreditApplication updated = application(1L, ApplicationStatus.RECHAZADA, 1L);
+        when(repository.updateIfCurrent(1L, EnumSet.allOf(ApplicationStatus.class), null, null, "note"))
+                .thenReturn(Optional.of(updated));
+
+        assertSame(updated, service.update(1L, "note", null, null));
+    }
+
+    @Test
+    public void missingApplicationIsNotFound() {
+        when(repository.updateIfCurrent(any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+
+        ApplicationNotFoundException e = assertThrows(ApplicationNotFoundException.class,
+                () -> service.updateStatus(1L, "EN_REVISION", null));
+
+        assertEquals(HttpStatus.NOT_FOUND, new GlobalExceptionHandler().handleNotFound(e).getStatusCode());
+    }
+
+    @Test
+    public void staleVersionIsAConflict() {
+        rejectedAgainst(application(1L, ApplicationStatus.PENDIENTE, 5L));
+
+        ApplicationConflictException e = assertThrows(ApplicationConflictException.class,
+                () -> service.updateStatus(1L, "EN_REVISION", 4L));
+
+        assertEquals(ApplicationConflictException.staleVersion(1L, 4L, 5L).getMessage(), e.getMessage());
+        assertEquals(HttpStatus.CONFLICT, new GlobalExceptionHandler().handleConflict(e).getStatusCode());
+    }
+
+    @Test
+    public void transitionFromAFinalStatusIsAConflict() {
+        rejectedAgainst(application(1L, ApplicationStatus.APROBADA, 5L));
+
+        ApplicationConflictException e = assertThrows(ApplicationConflictException.class,
+                () -> service.updateStatus(1L, "RECHAZADA", 5L));
+
+        assertEquals(ApplicationConflictException.invalidTransition(ApplicationStatus.APROBADA,
+                ApplicationStatus.RECHAZADA).getMessage(), e.getMessage());
+    }
+
+    @Test
+    public void rowThatMatchesOnReReadWasModifiedConcurrently() {
+        // Version and status fit now, so it changed between the update and the re-read
+        rejectedAgainst(application(1L, ApplicationStatus.PENDIENTE, 5L));
+
+        ApplicationConflictException e = assertThrows(ApplicationConflictException.class,
+                () -> service.updateStatus(1L, "EN_REVISION", 5L));
+
+        assertEquals(ApplicationConflictException.modifiedConcurrently(1L).getMessage(), e.getMessage());
+    }
+
+    @Test
+    public void unknownStatusIsABadRequest() {
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatus(1L, "ARCHIVADA", null));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    public void bulkChangeGuardsEachWriteWithTheVersionJustRead() {
+        when(repository.findAllById(any())).thenReturn(List.of(
+                application(1L, ApplicationStatus.PENDIENTE, 3L),
+                application(2L, ApplicationStatus.EN_REVISION, 8L)));
+        ArgumentCaptor<List<StatusChange>> changes = changesCaptor();
+        when(repository.applyStatusChanges(changes.capture(), any())).thenReturn(Set.of(1L));
+
+        List<StatusChangeResult> results = service.bulkUpdateStatus(List.of(
+                new BulkStatusChangeRequest.Item(1L, "EN_REVISION", "start", null),
+                new BulkStatusChangeRequest.Item(2L, "APROBADA", null, 8L)));
+
+        // The client sent no version for item 1: the one read here still guards the UPDATE
+        assertEquals(Set.of(new StatusChange(1L, ApplicationStatus.EN_REVISION, "start", 3L),
+                new StatusChange(2L, ApplicationStatus.APROBADA, null, 8L)), Set.copyOf(changes.getValue()));
+
+        assertEquals(Outcome.UPDATED, results.get(0).outcome());
+        assertEquals(ApplicationStatus.EN_REVISION, results.get(0).application().getStatus());
+        assertEquals("start", results.get(0).application().getAnalystNotes());
+        assertEquals(4L, results.get(0).application().getVersion());
+        // Matched no row in the batch: changed after it was read
+        assertEquals(Outcome.CONFLICT, results.get(1).outcome());
+        assertEquals(ApplicationConflictException.modifiedConcurrently(2L).getMessage(), results.get(1).message());
+        assertEquals(8L, results.get(1).application().getVersion());
+    }
+
+    @Test
+    public void bulkChangeReportsInvalidItemsWithoutWritingThem() {
+        when(repository.findAllById(any())).thenReturn(List.of(
+                application(1L, ApplicationStatus.PENDIENTE, 3L),
+                application(2L, ApplicationStatus.APROBADA, 1L)));
+
+        List<StatusChangeResult> results = service.bulkUpdateStatus(List.of(
+                new BulkStatusChangeRequest.Item(1L, "EN_REVISION", null, 2L),
+                new BulkStatusChangeRequest.Item(2L, "RECHAZADA", null, null),
+                new BulkStatusChangeRequest.Item(3L, "APROBADA", null, null),
+                new BulkStatusChangeRequest.Item(4L, "ARCHIVADA", null, null),
+                new BulkStatusChangeRequest.Item(1L, "APROBADA", null, null)));
+
+        assertEquals(List.of(Outcome.CONFLICT, Outcome.CONFLICT, Outcome.NOT_FOUND, Outcome.INVALID, Outcome.INVALID),
+                results.stream().map(StatusChangeResult::outcome).toList());
+        assertEquals(ApplicationConflictException.staleVersion(1L, 2L, 3L).getMessage(), results.get(0).message());
+        verify(repository, never()).applyStatusChanges(any(), any());
+    }
+
+    @Test
+    public void bulkChangeKeepsRequestOrder() {
+        when(repository.findAllById(any())).thenReturn(List.of(
+                application(1L, ApplicationStatus.PENDIENTE, 0L),
+                application(2L, ApplicationStatus.PENDIENTE, 0L),
+                application(3L, ApplicationStatus.PENDIENTE, 0L)));
+        when(repository.applyStatusChanges(any(), any(LocalDateTime.class))).thenReturn(Set.of(1L, 2L, 3L));
+
+        List<StatusChangeResult> results = service.bulkUpdateStatus(List.of(
+                new BulkStatusChangeRequest.Item(3L, "EN_REVISION", null, null),
+                new BulkStatusChangeRequest.Item(1L, "APROBADA", null, null),
+                new BulkStatusChangeRequest.Item(2L, "RECHAZADA", null, null)));
+
+        assertEquals(List.of(3L, 1L, 2L), results.stream().map(StatusChangeResult::id).toList());
+        assertEquals(List.of(ApplicationStatus.EN_REVISION, ApplicationStatus.APROBADA, ApplicationStatus.RECHAZADA),
+                results.stream().map(result -> result.application().getStatus()).toList());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<List<StatusChange>> changesCaptor() {
+        return ArgumentCaptor.forClass((Class) List.class);
+    }
+
+    private void rejectedAgainst(CreditApplication current) {
+        when(repository.updateIfCurrent(any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(repository.findById(current.getId())).thenReturn(Optional.of(current));
+    }
+
+    /** Newest first, as the repository returns them. */
+    private static List<CreditApplication> applications(int count) {
+        List<CreditApplication> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(application(100L - i, ApplicationStatus.PENDIENTE, 0L));
+        }
+        return rows;
+    }
+
+    private static CreditApplication application(Long id, ApplicationStatus status, Long version) {
+        return new CreditApplication(id, 7L, new BigDecimal("1000000"), 12, "Vehículo", status, null,
+                T0.plusMinutes(id), T0.plusMinutes(id), version, null);
+    }
+}
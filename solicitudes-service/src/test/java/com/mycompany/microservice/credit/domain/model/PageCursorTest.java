@@ -0,0 +1,63 @@
+package com.mycompany.microservice.credit.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Cursor tokens round-trip, and anything that is not a token this service
+ * issued is rejected with IllegalArgumentException (mapped to 400).
+ */
+public class PageCursorTest {
+
+    @Test
+    public void roundTripsThroughItsToken() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000), 42L);
+
+        String token = cursor.encode();
+
+        assertFalse(token.contains("="));
+        assertEquals(cursor, PageCursor.decode(token));
+    }
+
+    @Test
+    public void roundTripsWholeMinutes() {
+        // LocalDateTime.toString drops zero seconds: "2024-03-01T09:30"
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2024, 3, 1, 9, 30), 7L);
+
+        assertEquals(cursor, PageCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    public void pointsAfterTheGivenApplication() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 9, 30);
+        CreditApplication application = new CreditApplication();
+        application.setId(5L);
+        application.setCreatedAt(createdAt);
+
+        assertEquals(new PageCursor(createdAt, 5L), PageCursor.after(application));
+    }
+
+    @Test
+    public void malformedTokensAreRejected() {
+        for (String raw : new String[] {"", "2024-03-01T09:30", "2024-03-01T09:30|", "2024-03-01T09:30|x",
+                "yesterday|42", "|42"}) {
+            String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(token), raw);
+            assertEquals("Invalid page cursor", e.getMessage());
+        }
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not base64!"));
+    }
+
+    @Test
+    public void requiresBothFields() {
+        assertThrows(IllegalArgumentException.class, () -> new PageCursor(null, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new PageCursor(LocalDateTime.now(), null));
+    }
+}
@@ -0,0 +1,130 @@
+package com.mycompany.microservice.credit.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactiveLoadBalancer;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hedged and timed-out attempts through the filter, in front of a stand-in for
+ * the load balancer exchange filter that sends each attempt to a fixed instance.
+ */
+public class LoadBalancerCancellationFilterTest {
+
+    private static final ServiceInstance A = new DefaultServiceInstance("a", "auth", "10.0.0.1", 8081, false);
+    private static final ServiceInstance B = new DefaultServiceInstance("b", "auth", "10.0.0.2", 8081, false);
+    private static final ClientRequest REQUEST = ClientRequest.create(HttpMethod.POST,
+            URI.create("lb://auth/api/auth/users/exists")).build();
+
+    private long now = TimeUnit.HOURS.toNanos(1);
+    private final PeakEwmaLoadBalancer balancer = new PeakEwmaLoadBalancer("auth",
+            ServiceInstanceListSuppliers.toProvider("auth", A, B),
+            new PeakEwmaLoadBalancer.Settings(Duration.ofSeconds(10), 3, Duration.ofSeconds(10), Duration.ofSeconds(5)),
+            new SimpleMeterRegistry(), ObservationRegistry.NOOP, () -> now);
+    private final LoadBalancerCancellationFilter filter = new LoadBalancerCancellationFilter(loadBalancers());
+
+    @Test
+    public void losingHedgeDoesNotRaiseTheLosersCost() {
+        warmUp();
+        double costOfA = balancer.cost(A);
+
+        // The primary on A is slow; the hedge on B answers first and A's attempt is cancelled
+        ClientResponse response = Mono.firstWithValue(
+                filter.filter(REQUEST, hangingOn(A)),
+                filter.filter(REQUEST, answeringFrom(B, 15))).block();
+
+        assertEquals(HttpStatus.OK, response.statusCode());
+        // Only the 15 ms the race took have decayed it: no outstanding request, no sample
+        assertEquals(costOfA * Math.exp(-0.015 / 10), balancer.cost(A), 1.0);
+        // Not left to be written off as a failure either
+        now += TimeUnit.SECONDS.toNanos(6);
+        assertEquals(costOfA * Math.exp(-6.015 / 10), balancer.cost(A), 1.0);
+    }
+
+    @Test
+    public void attemptStillRunningAtTheDeadlineIsAFailure() {
+        warmUp();
+        AtomicBoolean deadlineExceeded = new AtomicBoolean();
+
+        Mono<ClientResponse> call = filter.filter(REQUEST, hangingOn(A))
+                .timeout(Mono.delay(Duration.ofMillis(10)).doOnNext(tick -> {
+                    now += TimeUnit.SECONDS.toNanos(1);
+                    deadlineExceeded.set(true);
+                }))
+                .contextWrite(context -> context.put(LoadBalancerCancellationFilter.DEADLINE_EXCEEDED,
+                        deadlineExceeded));
+
+        RuntimeException e = assertThrows(RuntimeException.class, call::block);
+        assertInstanceOf(TimeoutException.class, Exceptions.unwrap(e));
+        assertEquals(TimeUnit.SECONDS.toNanos(1), balancer.cost(A), 1.0);
+    }
+
+    /** One 10 ms answer from each instance. */
+    private void warmUp() {
+        answeringFrom(A, 10).exchange(tagged()).block();
+        answeringFrom(B, 10).exchange(tagged()).block();
+    }
+
+    private static ClientRequest tagged() {
+        return ClientRequest.from(REQUEST).attribute(PeakEwmaLoadBalancer.ATTEMPT_ATTRIBUTE, new Object()).build();
+    }
+
+    private ExchangeFunction hangingOn(ServiceInstance instance) {
+        return request -> {
+            start(request, instance);
+            return Mono.never();
+        };
+    }
+
+    private ExchangeFunction answeringFrom(ServiceInstance instance, long latencyMillis) {
+        return request -> {
+            Request<RequestDataContext> lbRequest = start(request, instance);
+            now += TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+            balancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, lbRequest,
+                    new DefaultResponse(instance)));
+            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        };
+    }
+
+    /** What the load balancer exchange filter does once it has chosen the instance. */
+    private Request<RequestDataContext> start(ClientRequest request, ServiceInstance instance) {
+        Request<RequestDataContext> lbRequest = new DefaultRequest<>(new RequestDataContext(new RequestData(request)));
+        balancer.onStartRequest(lbRequest, new DefaultResponse(instance));
+        return lbRequest;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ReactiveLoadBalancer.Factory<ServiceInstance> loadBalancers() {
+        ReactiveLoadBalancer.Factory<ServiceInstance> loadBalancers = mock(ReactiveLoadBalancer.Factory.class);
+        when(loadBalancers.getInstance("auth")).thenReturn(balancer);
+        return loadBalancers;
+    }
+}
@@ -0,0 +1,221 @@
+package com.mycompany.microservice.credit.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Picks, latency spikes, ejection, and cancelled, timed-out and abandoned
+ * requests of the peak EWMA balancer, on a fake clock. With two instances
+ * every pick compares both.
+ */
+public class PeakEwmaLoadBalancerTest {
+
+    private static final ServiceInstance A = new DefaultServiceInstance("a", "auth", "10.0.0.1", 8081, false);
+    private static final ServiceInstance B = new DefaultServiceInstance("b", "auth", "10.0.0.2", 8081, false);
+
+    private long now = TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    public void picksTheInstanceWithTheLowerCost() {
+        PeakEwmaLoadBalancer balancer = balancer(Duration.ofSeconds(10));
+        respond(balancer, A, 50, false);
+        respond(balancer, B, 10, false);
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(B, choose(balancer));
+        }
+    }
+
+    @Test
+    public void outstandingRequestsRaiseTheCost() {
+        PeakEwmaLoadBalancer balancer = balancer(Duration.ofSeconds(10));
+        respond(balancer, A, 30, false);
+        respond(balancer, B, 10, false);
+
+        start(balancer, B);
+        start(balancer, B);
+        assertEquals(millis(30), balancer.cost(B), 1.0);
+        start(balancer, B);
+        assertEquals(A, choose(balancer));
+    }
+
+    @Test
+    public void latencySpikeRaisesTheCostAtOnceAndThenDecays() {
+        PeakEwmaLoadBalancer balancer = balancer(Duration.ofSeconds(1));
+        respond(balancer, A, 50, false);
+        respond(balancer, B, 10, false);
+        assertEquals(B, choose(balancer));
+
+        respond(balancer, B, 500, false);
+        assertEquals(millis(500), balancer.cost(B), 1.0);
+        assertEquals(A, choose(balancer));
+
+        // Three decay periods later one normal response outweighs the spike
+        now += TimeUnit.SECONDS.toNanos(3);
+        respond(balancer, A, 50, false);
+        respond(balancer, B, 10, false);
+        assertTrue(balancer.cost(B) < millis(50), "spike still dominates: " + balancer.cost(B));
+        assertEquals(B, choose(balancer));
+    }
+
+    @Test
+    public void ejectedInstanceIsSkippedUntilTheEjectionEnds() {
+        PeakEwmaLoadBalancer balancer = balancer(Duration.ofMinutes(1));
+        respond(balancer, A, 10, false);
+        respond(balancer, B, 50, false);
+        assertEquals(A, choose(balancer));
+
+        for (int i = 0; i < 3; i++) {
+            respond(balancer, A, 1, true);
+        }
+        assertEquals(B, choose(balancer));
+
+        now += TimeUnit.SECONDS.toNanos(10) - 1;
+        assertEquals(B, choose(balancer));
+        now += 1;
+        assertEquals(A, choose(balancer));
+    }
+
+    @Test
+    public void cancelledRequestOnlyStopsCountingAsOutstanding() {
+        PeakEwmaLoadBalancer balancer = balancer(Duration.ofSeconds(10));
+        respond(balancer, A, 10, false);
+        respond(balancer, B, 50, false);
+
+        for (int i = 0; i < 3; i++) {
+            double idle = balancer.cost(A);
+            Object attempt = new Object();
+            start(balancer, A, attempt);
+            assertEquals(2 * idle, balancer.cost(A), 1.0);
+            now += TimeUnit.MILLISECONDS.toNanos(500);
+            balancer.onCancel(attempt);
+            // No latency sample: the 10 ms EWMA just keeps decaying
+            assertTrue(balancer.cost(A) < idle, "cancellation was recorded: " + balancer.cost(A));
+        }
+        // Nor a failure: three of them do not eject the instance
+        assertEquals(A, choose(balancer));
+    }
+
+    @Test
+    public void requestPastTheDeadlineIsAFailureThatTookThatLong() {
+        PeakEwmaLoadBalancer balancer = balancer(Duration.ofMinutes(1));
+        respond(balancer, A, 10, false);
+        respond(balancer, B, 50, false);
+
+        Object attempt = new Object();
+        start(balancer, A, attempt);
+        now += TimeUnit.SECONDS.toNanos(1);
+        balancer.onDeadlineExceeded(attempt);
+        assertEquals(TimeUnit.SECONDS.toNanos(1), balancer.cost(A), 1.0);
+        assertEquals(B, choose(balancer));
+
+        // Counted as a failure: with the first, three of them eject the instance
+        for (int i = 0; i < 2; i++) {
+            attempt = new Object();
+            start(balancer, A, attempt);
+            balancer.onDeadlineExceeded(attempt);
+        }
+        respond(balancer, B, 5_000, false);
+        assertEquals(B, choose(balancer));
+    }
+
+    @Test
+    public void unknownAttemptIsIgnored() {
+        PeakEwmaLoadBalancer balancer = balancer(Duration.ofSeconds(10));
+        respond(balancer, A, 10, false);
+        start(balancer, A, new Object());
+
+        balancer.onCancel(new Object());
+        balancer.onDeadlineExceeded(new Object());
+        assertEquals(millis(20), balancer.cost(A), 1.0);
+    }
+
+    @Test
+    public void unreportedRequestsAreWrittenOffAsFailures() {
+        PeakEwmaLoadBalancer balancer = balancer(Duration.ofSeconds(10));
+        respond(balancer, A, 10, false);
+        Request<RequestDataContext> abandoned = start(balancer, A);
+        assertEquals(millis(20), balancer.cost(A), 1.0);
+
+        // Written off as a failure that took abandonAfter, no longer in flight
+        now += TimeUnit.SECONDS.toNanos(5) + 1;
+        double cost = balancer.cost(A);
+        assertEquals(TimeUnit.SECONDS.toNanos(5) + 1, cost, 1.0);
+
+        // Its late completion is ignored
+        complete(balancer, A, abandoned, false);
+        assertEquals(cost, balancer.cost(A), 1.0);
+    }
+
+    private PeakEwmaLoadBalancer balancer(Duration decay) {
+        PeakEwmaLoadBalancer.Settings settings = new PeakEwmaLoadBalancer.Settings(
+                decay, 3, Duration.ofSeconds(10), Duration.ofSeconds(5));
+        return new PeakEwmaLoadBalancer("auth", ServiceInstanceListSuppliers.toProvider("auth", A, B),
+                settings, new SimpleMeterRegistry(), ObservationRegistry.NOOP, () -> now);
+    }
+
+    private ServiceInstance choose(PeakEwmaLoadBalancer balancer) {
+        return balancer.choose(new DefaultRequest<>(new RequestDataContext())).block().getServer();
+    }
+
+    /** One request to the instance that completes after the given latency. */
+    private void respond(PeakEwmaLoadBalancer balancer, ServiceInstance instance, long latencyMillis, boolean failed) {
+        Request<RequestDataContext> request = start(balancer, instance);
+        now += TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+        complete(balancer, instance, request, failed);
+    }
+
+    private Request<RequestDataContext> start(PeakEwmaLoadBalancer balancer, ServiceInstance instance) {
+        return start(balancer, instance, new RequestDataContext());
+    }
+
+    /** A request tagged with the attempt, as LoadBalancerCancellationFilter sends it. */
+    private Request<RequestDataContext> start(PeakEwmaLoadBalancer balancer, ServiceInstance instance,
+            Object attempt) {
+        RequestData data = new RequestData(HttpMethod.GET, URI.create("http://auth/api"), new HttpHeaders(),
+                new LinkedMultiValueMap<>(), Map.of(PeakEwmaLoadBalancer.ATTEMPT_ATTRIBUTE, attempt));
+        return start(balancer, instance, new RequestDataContext(data));
+    }
+
+    private Request<RequestDataContext> start(PeakEwmaLoadBalancer balancer, ServiceInstance instance,
+            RequestDataContext context) {
+        Request<RequestDataContext> request = new DefaultRequest<>(context);
+        balancer.onStartRequest(request, new DefaultResponse(instance));
+        return request;
+    }
+
+    private void complete(PeakEwmaLoadBalancer balancer, ServiceInstance instance,
+            Request<RequestDataContext> request, boolean failed) {
+        Response<ServiceInstance> response = new DefaultResponse(instance);
+        balancer.onComplete(failed
+                ? new CompletionContext<>(CompletionContext.Status.FAILED, new IllegalStateException("boom"),
+                        request, response)
+                : new CompletionContext<>(CompletionContext.Status.SUCCESS, request, response));
+    }
+
+    private static double millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,89 @@
+package com.mycompany.microservice.credit.infrastructure.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.microservice.credit.domain.model.ApplicationStatus;
+import com.mycompany.microservice.credit.domain.model.StatusChange;
+import com.mycompany.microservice.credit.infrastructure.persistence.mapper.CreditApplicationMapper;
+import com.mycompany.microservice.credit.infrastructure.persistence.repository.JpaCreditApplicationRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The bulk status change as one version-guarded JDBC batch, on a mocked
+ * JdbcTemplate: what each row binds and how update counts map to ids.
+ */
+public class CreditApplicationRepositoryAdapterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CreditApplicationRepositoryAdapter adapter = new CreditApplicationRepositoryAdapter(
+            mock(JpaCreditApplicationRepository.class), new CreditApplicationMapper(),
+            mock(EntityManager.class), jdbcTemplate);
+
+    @Test
+    public void sendsAllChangesAsOneVersionGuardedBatch() throws SQLException {
+        List<StatusChange> changes = List.of(
+                new StatusChange(1L, ApplicationStatus.APROBADA, "ok", 3L),
+                new StatusChange(2L, ApplicationStatus.EN_REVISION, null, 0L));
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<StatusChange>> setter = setterCaptor();
+        when(jdbcTemplate.batchUpdate(sql.capture(), eq(changes), eq(2), setter.capture()))
+                .thenReturn(new int[][] {{1, 1}});
+
+        adapter.applyStatusChanges(changes, NOW);
+
+        assertTrue(sql.getValue().contains("WHERE id = ? AND version = ?"), sql.getValue());
+        assertTrue(sql.getValue().contains("version = version + 1"), sql.getValue());
+
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, changes.get(0));
+        verify(ps).setString(1, "APROBADA");
+        verify(ps).setString(2, "ok");
+        verify(ps).setTimestamp(3, Timestamp.valueOf(NOW));
+        verify(ps).setLong(4, 1L);
+        verify(ps).setLong(5, 3L);
+    }
+
+    @Test
+    public void reportsOnlyTheRowsTheBatchUpdated() {
+        List<StatusChange> changes = List.of(
+                new StatusChange(1L, ApplicationStatus.APROBADA, null, 3L),
+                new StatusChange(2L, ApplicationStatus.RECHAZADA, null, 1L),
+                new StatusChange(3L, ApplicationStatus.EN_REVISION, null, 0L));
+        // Row 2 moved past version 1 before the batch ran
+        when(jdbcTemplate.batchUpdate(anyString(), eq(changes), anyInt(), any(setterClass())))
+                .thenReturn(new int[][] {{1, 0, 1}});
+
+        assertEquals(Set.of(1L, 3L), adapter.applyStatusChanges(changes, NOW));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<ParameterizedPreparedStatementSetter<StatusChange>> setterCaptor() {
+        return ArgumentCaptor.forClass(setterClass());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Class<ParameterizedPreparedStatementSetter<StatusChange>> setterClass() {
+        return (Class) ParameterizedPreparedStatementSetter.class;
+    }
+}